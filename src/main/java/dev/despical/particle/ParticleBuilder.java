@@ -18,8 +18,11 @@
 
 package dev.despical.particle;
 
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.audience.LevelOfDetail;
 import dev.despical.particle.data.ParticleData;
 import dev.despical.particle.data.color.RegularColor;
+import dev.despical.particle.emission.ParticleCoalescer;
 import dev.despical.particle.utils.NMSUtils;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -27,6 +30,7 @@ import org.bukkit.util.Vector;
 
 import java.awt.*;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
@@ -103,6 +107,14 @@ public class ParticleBuilder {
 	 * information the client needs to display the particle correctly.
 	 */
 	private ParticleData particleData = null;
+	/**
+	 * The {@link LevelOfDetail} that reduces the particles far away players receive.
+	 */
+	private LevelOfDetail levelOfDetail = LevelOfDetail.NONE;
+	/**
+	 * Whether the particle may be merged with similar particles of the same tick.
+	 */
+	private boolean coalesced = false;
 
 	/**
 	 * Initializes a new {@link ParticleBuilder}
@@ -325,6 +337,43 @@ public class ParticleBuilder {
 		return this;
 	}
 
+	/**
+	 * The {@link LevelOfDetail} that reduces the particles far away players receive.
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
+	/**
+	 * Sets the levelOfDetail.
+	 *
+	 * @param levelOfDetail The new value of the {@link #levelOfDetail} field
+	 * @return the current instance to support building operations
+	 */
+	public ParticleBuilder setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		this.levelOfDetail = Objects.requireNonNull(levelOfDetail);
+		return this;
+	}
+
+	/**
+	 * Whether the particle may be merged with similar particles of the same tick.
+	 */
+	public boolean isCoalesced() {
+		return coalesced;
+	}
+
+	/**
+	 * Sets the coalesced.
+	 *
+	 * @param coalesced The new value of the {@link #coalesced} field
+	 * @return the current instance to support building operations
+	 * @see ParticleCoalescer
+	 */
+	public ParticleBuilder setCoalesced(boolean coalesced) {
+		this.coalesced = coalesced;
+		return this;
+	}
+
 	/**
 	 * Sets the color of the particle. Note that particle
 	 * needs the {@link PropertyType#COLORABLE} PropertyType
@@ -346,19 +395,29 @@ public class ParticleBuilder {
 	 * @throws IllegalStateException if the location field isn't set yet.
 	 */
 	public Object toPacket() {
+		return toParticlePacket().createPacket(this.location);
+	}
+
+	/**
+	 * Creates a new {@link ParticlePacket} with the given values without building
+	 * the nms packet yet.
+	 *
+	 * @return the new {@link ParticlePacket}
+	 * @throws IllegalStateException if the location field isn't set yet.
+	 */
+	public ParticlePacket toParticlePacket() {
 		if (location == null)
 			throw new IllegalStateException("Missing location of particle.");
 		if (this.particleData != null)
 			this.particleData.setEffect(this.particle);
-		ParticlePacket packet = new ParticlePacket(this.particle, this.offsetX, this.offsetY, this.offsetZ, this.speed, this.amount, this.particleData);
-		return packet.createPacket(this.location);
+		return new ParticlePacket(this.particle, this.offsetX, this.offsetY, this.offsetZ, this.speed, this.amount, this.particleData);
 	}
 
 	/**
 	 * Displays the given particle to all players.
 	 */
 	public void display() {
-		NMSUtils.display(toPacket(), particle, location, amount, location.getWorld().getPlayers());
+		display(Audience.world());
 	}
 
 	/**
@@ -367,7 +426,7 @@ public class ParticleBuilder {
 	 * @param players The players that should see the particle.
 	 */
 	public void display(Player... players) {
-		NMSUtils.display(toPacket(), particle, location, amount, players);
+		display(Audience.of(players));
 	}
 
 	/**
@@ -377,7 +436,7 @@ public class ParticleBuilder {
 	 *               specific {@link Player Players}.
 	 */
 	public void display(Predicate<Player> filter) {
-		NMSUtils.display(toPacket(), particle, location, amount, filter);
+		display(Audience.matching(filter));
 	}
 
 	/**
@@ -386,7 +445,19 @@ public class ParticleBuilder {
 	 * @param players a list of players that should receive the particle packet.
 	 */
 	public void display(Collection<? extends Player> players) {
-		NMSUtils.display(toPacket(), particle, location, amount, players);
+		display(Audience.of(players));
+	}
+
+	/**
+	 * Displays the given particle to every recipient of the {@link Audience}.
+	 *
+	 * @param audience the {@link Audience} that should receive the particle packet.
+	 */
+	public void display(Audience audience) {
+		if (coalesced)
+			ParticleCoalescer.display(toParticlePacket(), location, audience, levelOfDetail);
+		else
+			NMSUtils.display(toParticlePacket(), location, audience, levelOfDetail);
 	}
 
 }
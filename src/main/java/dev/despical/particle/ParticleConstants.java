@@ -115,6 +115,26 @@ public final class ParticleConstants {
 	 * Represents the PlayerConnection class.
 	 */
 	public static final Class<?> PLAYER_CONNECTION_CLASS;
+	/**
+	 * Represents the ServerLevel class.
+	 */
+	public static final Class<?> SERVER_LEVEL_CLASS;
+	/**
+	 * Represents the ServerChunkCache class.
+	 */
+	public static final Class<?> SERVER_CHUNK_CACHE_CLASS;
+	/**
+	 * Represents the ChunkMap class.
+	 */
+	public static final Class<?> CHUNK_MAP_CLASS;
+	/**
+	 * Represents the ChunkMap.TrackedEntity class.
+	 */
+	public static final Class<?> TRACKED_ENTITY_CLASS;
+	/**
+	 * Represents the ServerPlayerConnection interface.
+	 */
+	public static final Class<?> SERVER_PLAYER_CONNECTION_INTERFACE;
 	/**
 	 * Represents the CraftEntity class.
 	 */
@@ -123,6 +143,10 @@ public final class ParticleConstants {
 	 * Represents the CraftPlayer class.
 	 */
 	public static final Class<?> CRAFT_PLAYER_CLASS;
+	/**
+	 * Represents the CraftWorld class.
+	 */
+	public static final Class<?> CRAFT_WORLD_CLASS;
 	/**
 	 * Represents the CraftItemStack class.
 	 */
@@ -174,6 +198,22 @@ public final class ParticleConstants {
 	 * Represents the CraftPlayer#getHandle(); method.
 	 */
 	public static final Method CRAFT_PLAYER_GET_HANDLE_METHOD;
+	/**
+	 * Represents the CraftWorld#getHandle(); method.
+	 */
+	public static final Method CRAFT_WORLD_GET_HANDLE_METHOD;
+	/**
+	 * Represents the ServerLevel#getChunkSource(); method.
+	 */
+	public static final Method SERVER_LEVEL_GET_CHUNK_SOURCE_METHOD;
+	/**
+	 * Represents the ServerPlayerConnection#getPlayer(); method.
+	 */
+	public static final Method SERVER_PLAYER_CONNECTION_GET_PLAYER_METHOD;
+	/**
+	 * Represents the Entity#getBukkitEntity(); method.
+	 */
+	public static final Method ENTITY_GET_BUKKIT_ENTITY_METHOD;
 	/**
 	 * Represents the Block#getBlockData(); method.
 	 */
@@ -182,6 +222,18 @@ public final class ParticleConstants {
 	 * Represents the CraftItemStack#asNMSCopy(); method.
 	 */
 	public static final Method CRAFT_ITEM_STACK_AS_NMS_COPY_METHOD;
+	/**
+	 * Represents the Entity#locX(); method, or Entity#getX(); on mojang mapped servers.
+	 */
+	public static final Method ENTITY_GET_X_METHOD;
+	/**
+	 * Represents the Entity#locY(); method, or Entity#getY(); on mojang mapped servers.
+	 */
+	public static final Method ENTITY_GET_Y_METHOD;
+	/**
+	 * Represents the Entity#locZ(); method, or Entity#getZ(); on mojang mapped servers.
+	 */
+	public static final Method ENTITY_GET_Z_METHOD;
 
 	/* ---------------- Fields ---------------- */
 
@@ -189,6 +241,30 @@ public final class ParticleConstants {
 	 * Represents the EntityPlayer#playerConnection field.
 	 */
 	public static final Field ENTITY_PLAYER_PLAYER_CONNECTION_FIELD;
+	/**
+	 * Represents the ServerChunkCache#chunkMap field.
+	 */
+	public static final Field SERVER_CHUNK_CACHE_CHUNK_MAP_FIELD;
+	/**
+	 * Represents the ChunkMap#entityMap field.
+	 */
+	public static final Field CHUNK_MAP_ENTITY_MAP_FIELD;
+	/**
+	 * Represents the ChunkMap.TrackedEntity#seenBy field.
+	 */
+	public static final Field TRACKED_ENTITY_SEEN_BY_FIELD;
+	/**
+	 * Represents the Entity#locX field.
+	 */
+	public static final Field ENTITY_LOC_X_FIELD;
+	/**
+	 * Represents the Entity#locY field.
+	 */
+	public static final Field ENTITY_LOC_Y_FIELD;
+	/**
+	 * Represents the Entity#locZ field.
+	 */
+	public static final Field ENTITY_LOC_Z_FIELD;
 
 	/* ---------------- Constructor ---------------- */
 
@@ -287,8 +363,14 @@ public final class ParticleConstants {
 		ENTITY_CLASS = ParticleMappings.getMappedClass("Entity");
 		ENTITY_PLAYER_CLASS = ParticleMappings.getMappedClass("EntityPlayer");
 		PLAYER_CONNECTION_CLASS = ParticleMappings.getMappedClass("PlayerConnection");
+		SERVER_LEVEL_CLASS = ParticleMappings.getMappedClass("ServerLevel");
+		SERVER_CHUNK_CACHE_CLASS = ParticleMappings.getMappedClass("ServerChunkCache");
+		CHUNK_MAP_CLASS = ParticleMappings.getMappedClass("ChunkMap");
+		TRACKED_ENTITY_CLASS = ParticleMappings.getMappedClass("ChunkMap.TrackedEntity");
+		SERVER_PLAYER_CONNECTION_INTERFACE = ParticleMappings.getMappedClass("ServerPlayerConnection");
 		CRAFT_ENTITY_CLASS = ReflectionUtils.getCraftBukkitClass("entity.CraftEntity");
 		CRAFT_PLAYER_CLASS = ReflectionUtils.getCraftBukkitClass("entity.CraftPlayer");
+		CRAFT_WORLD_CLASS = ReflectionUtils.getCraftBukkitClass("CraftWorld");
 		CRAFT_ITEM_STACK_CLASS = ReflectionUtils.getCraftBukkitClass("inventory.CraftItemStack");
 		PARTICLE_PARAM_CLASS = ParticleMappings.getMappedClass("ParticleParam");
 		PARTICLE_PARAM_REDSTONE_CLASS = ParticleMappings.getMappedClass("ParticleParamRedstone");
@@ -303,11 +385,24 @@ public final class ParticleConstants {
 		REGISTRY_GET_METHOD = ParticleMappings.getMappedMethod(REGISTRY_CLASS, "Registry.get", MINECRAFT_KEY_CLASS);
 		CRAFT_ENTITY_GET_HANDLE_METHOD = ReflectionUtils.getMethodOrNull(CRAFT_ENTITY_CLASS, "getHandle");
 		CRAFT_PLAYER_GET_HANDLE_METHOD = ReflectionUtils.getMethodOrNull(CRAFT_PLAYER_CLASS, "getHandle");
+		CRAFT_WORLD_GET_HANDLE_METHOD = ReflectionUtils.getMethodOrNull(CRAFT_WORLD_CLASS, "getHandle");
+		SERVER_LEVEL_GET_CHUNK_SOURCE_METHOD = ParticleMappings.getMappedMethod(SERVER_LEVEL_CLASS, "ServerLevel.getChunkSource");
+		SERVER_PLAYER_CONNECTION_GET_PLAYER_METHOD = ParticleMappings.getMappedMethod(SERVER_PLAYER_CONNECTION_INTERFACE, "ServerPlayerConnection.getPlayer");
+		ENTITY_GET_BUKKIT_ENTITY_METHOD = ReflectionUtils.getMethodOrNull(ENTITY_CLASS, "getBukkitEntity");
 		BLOCK_GET_BLOCK_DATA_METHOD = ParticleMappings.getMappedMethod(BLOCK_CLASS, "Block.getBlockData");
 		CRAFT_ITEM_STACK_AS_NMS_COPY_METHOD = ReflectionUtils.getMethodOrNull(CRAFT_ITEM_STACK_CLASS, "asNMSCopy", ItemStack.class);
+		ENTITY_GET_X_METHOD = version < 14 ? null : getEntityCoordinateMethod("Entity.getLocX", "getX");
+		ENTITY_GET_Y_METHOD = version < 14 ? null : getEntityCoordinateMethod("Entity.getLocY", "getY");
+		ENTITY_GET_Z_METHOD = version < 14 ? null : getEntityCoordinateMethod("Entity.getLocZ", "getZ");
 
 		// Fields
 		ENTITY_PLAYER_PLAYER_CONNECTION_FIELD = ParticleMappings.getMappedField(ENTITY_PLAYER_CLASS, "EntityPlayer.playerConnection", false);
+		SERVER_CHUNK_CACHE_CHUNK_MAP_FIELD = ParticleMappings.getMappedField(SERVER_CHUNK_CACHE_CLASS, "ServerChunkCache.chunkMap", true);
+		CHUNK_MAP_ENTITY_MAP_FIELD = ParticleMappings.getMappedField(CHUNK_MAP_CLASS, "ChunkMap.entityMap", true);
+		TRACKED_ENTITY_SEEN_BY_FIELD = ParticleMappings.getMappedField(TRACKED_ENTITY_CLASS, "TrackedEntity.seenBy", true);
+		ENTITY_LOC_X_FIELD = ParticleMappings.getMappedField(ENTITY_CLASS, "Entity.locX", false);
+		ENTITY_LOC_Y_FIELD = ParticleMappings.getMappedField(ENTITY_CLASS, "Entity.locY", false);
+		ENTITY_LOC_Z_FIELD = ParticleMappings.getMappedField(ENTITY_CLASS, "Entity.locZ", false);
 
 		// Constructors
 		if (version < 13)
@@ -362,4 +457,19 @@ public final class ParticleConstants {
 				null);
 	}
 
+	/**
+	 * Gets a coordinate getter of the nms Entity class. Falls back to the mojang
+	 * name for servers that don't remap their classes.
+	 *
+	 * @param mapping    the name of the mapping.
+	 * @param mojangName the name of the method in the mojang mappings.
+	 * @return the method or {@code null} if it doesn't exist.
+	 */
+	private static Method getEntityCoordinateMethod(String mapping, String mojangName) {
+		Method method = ParticleMappings.getMappedMethod(ENTITY_CLASS, mapping);
+		if (method == null && ENTITY_CLASS != null)
+			method = ReflectionUtils.getMethodOrNull(ENTITY_CLASS, mojangName);
+		return method != null && method.getReturnType() == double.class ? method : null;
+	}
+
 }
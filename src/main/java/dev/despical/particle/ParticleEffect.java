@@ -18,6 +18,7 @@
 
 package dev.despical.particle;
 
+import dev.despical.particle.audience.Audience;
 import dev.despical.particle.data.ParticleData;
 import dev.despical.particle.data.SculkChargeData;
 import dev.despical.particle.data.ShriekData;
@@ -25,9 +26,10 @@ import dev.despical.particle.data.VibrationData;
 import dev.despical.particle.data.color.*;
 import dev.despical.particle.data.texture.BlockTexture;
 import dev.despical.particle.data.texture.ItemTexture;
+import dev.despical.particle.metrics.ParticleFailures;
 import dev.despical.particle.utils.NMSUtils;
 import dev.despical.particle.utils.ReflectionUtils;
-import org.bukkit.Bukkit;
+import dev.despical.particle.version.VersionAdapters;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
@@ -1287,7 +1289,8 @@ public enum ParticleEffect {
 								.filter(effect -> !"NONE".equals(effect.getFieldName()))
 								.collect(Collectors.toMap(Function.identity(), ParticleEffect::getNMSObject))
 				);
-			} catch (Exception ignored) {
+			} catch (Exception ex) {
+				ParticleFailures.recordInit("NMS particle effects", ex);
 			}
 		}
 	}
@@ -1301,6 +1304,14 @@ public enum ParticleEffect {
 	 * the current particle instance supports.
 	 */
 	private final List<PropertyType> properties;
+	/**
+	 * The name of the particle in the current version. Resolved on first use.
+	 */
+	private String fieldName;
+	/**
+	 * The nms instance of the particle in the current version. Resolved on first use.
+	 */
+	private Object nmsObject;
 
 	/**
 	 * Creates a new {@link ParticleEffect}
@@ -1330,7 +1341,9 @@ public enum ParticleEffect {
 	 * @return the {@link String} name of the particle.
 	 */
 	public String getFieldName() {
-		return fieldNameMapper.apply(ReflectionUtils.MINECRAFT_VERSION);
+		if (fieldName == null)
+			fieldName = fieldNameMapper.apply(ReflectionUtils.MINECRAFT_VERSION);
+		return fieldName;
 	}
 
 	/**
@@ -1394,16 +1407,12 @@ public enum ParticleEffect {
 	public Object getNMSObject() {
 		if (NMS_EFFECTS != null && NMS_EFFECTS.containsKey(this))
 			return NMS_EFFECTS.get(this);
+		if (nmsObject != null)
+			return nmsObject;
 		String fieldName = getFieldName();
 		if ("NONE".equals(fieldName))
 			return null;
-		if (ReflectionUtils.MINECRAFT_VERSION < 13)
-			return Arrays.stream(ParticleConstants.PARTICLE_ENUM.getEnumConstants()).filter(effect -> effect.toString().equals(fieldName)).findFirst().orElse(null);
-		else try {
-			return ParticleConstants.REGISTRY_GET_METHOD.invoke(ParticleConstants.PARTICLE_TYPE_REGISTRY, ReflectionUtils.getMinecraftKey(fieldName));
-		} catch (Exception ignored) {
-		}
-		return null;
+		return nmsObject = VersionAdapters.CURRENT.getParticleType(fieldName);
 	}
 
 
@@ -1529,7 +1538,17 @@ public enum ParticleEffect {
 	 * @param location the {@link Location} at which the particle should be displayed.
 	 */
 	public void display(Location location) {
-		display(location, 0f, 0f, 0f, 0f, 1, null, Bukkit.getOnlinePlayers());
+		display(location, 0f, 0f, 0f, 0f, 1, null, Audience.world());
+	}
+
+	/**
+	 * Displays the current {@link ParticleEffect}.
+	 *
+	 * @param location the {@link Location} at which the particle should be displayed.
+	 * @param audience the {@link Audience} that should receive the particle packet.
+	 */
+	public void display(Location location, Audience audience) {
+		display(location, 0f, 0f, 0f, 0f, 1, null, audience);
 	}
 
 	/**
@@ -1604,8 +1623,7 @@ public enum ParticleEffect {
 	 * @param players  a list of players that should receive the particle packet.
 	 */
 	public void display(Location location, float offsetX, float offsetY, float offsetZ, float speed, int amount, ParticleData data, Player... players) {
-		ArrayList<Player> playerList = Arrays.stream(players).collect(Collectors.toCollection(ArrayList::new));
-		display(location, offsetX, offsetY, offsetZ, speed, amount, data, playerList);
+		display(location, offsetX, offsetY, offsetZ, speed, amount, data, Audience.of(players));
 	}
 
 	/**
@@ -1621,8 +1639,7 @@ public enum ParticleEffect {
 	 * @param filter   a {@link Predicate} to filter out specific {@link Player Players}.
 	 */
 	public void display(Location location, float offsetX, float offsetY, float offsetZ, float speed, int amount, ParticleData data, Predicate<Player> filter) {
-		ArrayList<Player> players = Bukkit.getOnlinePlayers().stream().filter(filter).collect(Collectors.toCollection(ArrayList::new));
-		display(location, offsetX, offsetY, offsetZ, speed, amount, data, players);
+		display(location, offsetX, offsetY, offsetZ, speed, amount, data, Audience.matching(filter));
 	}
 
 	/**
@@ -1637,7 +1654,7 @@ public enum ParticleEffect {
 	 * @param data     the {@link ParticleData} the particle should have.
 	 */
 	public void display(Location location, float offsetX, float offsetY, float offsetZ, float speed, int amount, ParticleData data) {
-		display(location, offsetX, offsetY, offsetZ, speed, amount, data, Bukkit.getOnlinePlayers());
+		display(location, offsetX, offsetY, offsetZ, speed, amount, data, Audience.world());
 	}
 
 	/**
@@ -1653,14 +1670,28 @@ public enum ParticleEffect {
 	 * @param players  a {@link Collection} of players that should receive the particle packet.
 	 */
 	public void display(Location location, float offsetX, float offsetY, float offsetZ, float speed, int amount, ParticleData data, Collection<? extends Player> players) {
+		display(location, offsetX, offsetY, offsetZ, speed, amount, data, Audience.of(players));
+	}
+
+	/**
+	 * Displays the current {@link ParticleEffect}.
+	 *
+	 * @param location the {@link Location} at which the particle should be displayed.
+	 * @param offsetX  the offsetX data of the particle.
+	 * @param offsetY  the offsetY data of the particle.
+	 * @param offsetZ  the offsetZ data of the particle.
+	 * @param speed    the multiplier of the particle velocity.
+	 * @param amount   the amount of particles that should be displayed.
+	 * @param data     the {@link ParticleData} the particle should have.
+	 * @param audience the {@link Audience} that should receive the particle packet.
+	 */
+	public void display(Location location, float offsetX, float offsetY, float offsetZ, float speed, int amount, ParticleData data, Audience audience) {
 		if (!isCorrectData(data))
 			return;
 		if (data != null)
 			data.setEffect(this);
 		ParticlePacket packet = new ParticlePacket(this, offsetX, offsetY, offsetZ, speed, amount, data);
-
-		Object nmsPacket = packet.createPacket(location);
-		NMSUtils.display(nmsPacket, this, location, amount);
+		NMSUtils.display(packet, location, audience);
 	}
 
 }
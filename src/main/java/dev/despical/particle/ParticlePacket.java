@@ -19,23 +19,19 @@
 package dev.despical.particle;
 
 import dev.despical.particle.data.ParticleData;
-import dev.despical.particle.data.SculkChargeData;
-import dev.despical.particle.data.ShriekData;
-import dev.despical.particle.data.VibrationData;
-import dev.despical.particle.data.color.DustData;
 import dev.despical.particle.data.color.NoteColor;
 import dev.despical.particle.data.color.ParticleColor;
 import dev.despical.particle.data.color.RegularColor;
 import dev.despical.particle.data.texture.BlockTexture;
 import dev.despical.particle.data.texture.ItemTexture;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.metrics.ParticleMetrics;
+import dev.despical.particle.version.VersionAdapter;
+import dev.despical.particle.version.VersionAdapters;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 
-import java.lang.reflect.Constructor;
-
-import static dev.despical.particle.ParticleConstants.PACKET_PLAY_OUT_WORLD_PARTICLES_CONSTRUCTOR;
 import static dev.despical.particle.ParticleEffect.*;
 
 
@@ -136,7 +132,7 @@ public final class ParticlePacket {
 		this.offsetZ = offsetZ;
 		this.speed = speed;
 		this.amount = amount;
-		if (ReflectionUtils.MINECRAFT_VERSION > 17) {
+		if (VersionAdapters.CURRENT.usesBlockMarker()) {
 			if (particle == BARRIER) {
 				this.particle = BLOCK_MARKER;
 				this.particleData = new BlockTexture(Material.BARRIER);
@@ -246,37 +242,73 @@ public final class ParticlePacket {
 	 * @return a PacketPlayOutWorldParticles or {@code null} when something goes wrong.
 	 */
 	public Object createPacket(Location location) {
+		long start = System.nanoTime();
+		Object packet = createPacket0(location);
+		if (packet != null)
+			ParticleMetrics.recordPacketCreated(particle, System.nanoTime() - start);
+		return packet;
+	}
+
+	/**
+	 * Creates the NMS packet without recording any metrics.
+	 *
+	 * @param location the {@link Location} the particle should be displayed at.
+	 * @return a PacketPlayOutWorldParticles or {@code null} when something goes wrong.
+	 */
+	private Object createPacket0(Location location) {
+		ParticleEffect effect = getParticle();
+		ParticleData data = getParticleData();
+		if (effect == null || ParticleFailures.isSuppressed(effect, data))
+			return null;
+
+		ParticleFailures.pollPending();
+		Object packet;
 		try {
-			ParticleEffect effect = getParticle();
-			ParticleData data = getParticleData();
-			double version = ReflectionUtils.MINECRAFT_VERSION;
-			if (effect == null || effect.getFieldName().equals("NONE"))
+			packet = buildPacket(location, effect, data);
+		} catch (Exception ex) {
+			ParticleFailures.record(effect, data, ex);
+			return null;
+		}
+
+		if (packet == null) {
+			Throwable cause = ParticleFailures.pollPending();
+			if (cause != null)
+				ParticleFailures.record(effect, data, cause);
+		}
+		return packet;
+	}
+
+	/**
+	 * Builds the NMS packet of the given particle. Exceptions are thrown to the caller.
+	 *
+	 * @param location the {@link Location} the particle should be displayed at.
+	 * @param effect   the {@link ParticleEffect} of the particle.
+	 * @param data     the {@link ParticleData} of the particle or {@code null}.
+	 * @return a PacketPlayOutWorldParticles or {@code null} if the particle can't be displayed.
+	 */
+	private Object buildPacket(Location location, ParticleEffect effect, ParticleData data) {
+		VersionAdapter adapter = VersionAdapters.CURRENT;
+		if (effect.getFieldName().equals("NONE"))
+			return null;
+		if (data != null) {
+			if (data.getEffect() != effect)
 				return null;
-			if (data != null) {
-				if (data.getEffect() != effect)
-					return null;
-				Object nmsData = data.toNMSData();
-				if (nmsData == null)
-					return null;
-				if ((data instanceof DustData && version >= 13)
-						|| (data instanceof VibrationData && version >= 17)
-						|| (data instanceof ShriekData && version >= 19)
-						|| (data instanceof SculkChargeData && version >= 19)
-						|| (data instanceof RegularColor && (version >= 17 && effect.hasProperty(PropertyType.DUST))))
-					return createGenericParticlePacket(location, nmsData);
-				if ((data instanceof BlockTexture && effect.hasProperty(PropertyType.REQUIRES_BLOCK))
-						|| (data instanceof ItemTexture && effect.hasProperty(PropertyType.REQUIRES_ITEM)))
-					return createTexturedParticlePacket(location, nmsData);
-				if (data instanceof ParticleColor && effect.hasProperty(PropertyType.COLORABLE))
-					return createColoredParticlePacket(location, nmsData);
+			Object nmsData = data.getNMSData();
+			if (nmsData == null)
 				return null;
-			} else if (!effect.hasProperty(PropertyType.REQUIRES_BLOCK) && !effect.hasProperty(PropertyType.REQUIRES_ITEM))
-				return createPacket(effect.getNMSObject(),
-						(float) location.getX(), (float) location.getY(), (float) location.getZ(),
-						getOffsetX(), getOffsetY(), getOffsetZ(),
-						getSpeed(), getAmount(), new int[0]);
-		} catch (Exception ignored) {
-		}
+			if (adapter.isParamData(data, effect))
+				return createGenericParticlePacket(location, nmsData);
+			if ((data instanceof BlockTexture && effect.hasProperty(PropertyType.REQUIRES_BLOCK))
+					|| (data instanceof ItemTexture && effect.hasProperty(PropertyType.REQUIRES_ITEM)))
+				return createTexturedParticlePacket(location, nmsData);
+			if (data instanceof ParticleColor && effect.hasProperty(PropertyType.COLORABLE))
+				return createColoredParticlePacket(location, nmsData);
+			return null;
+		} else if (!effect.hasProperty(PropertyType.REQUIRES_BLOCK) && !effect.hasProperty(PropertyType.REQUIRES_ITEM))
+			return adapter.createPacket(effect.getNMSObject(),
+					location.getX(), location.getY(), location.getZ(),
+					getOffsetX(), getOffsetY(), getOffsetZ(),
+					getSpeed(), getAmount(), new int[0]);
 		return null;
 	}
 
@@ -291,8 +323,8 @@ public final class ParticlePacket {
 	 * @return a PacketPlayOutWorldParticles or {@code null} when something goes wrong.
 	 */
 	private Object createGenericParticlePacket(Location location, Object param) {
-		return createPacket(param,
-				(float) location.getX(), (float) location.getY(), (float) location.getZ(),
+		return VersionAdapters.CURRENT.createPacket(param,
+				location.getX(), location.getY(), location.getZ(),
 				getOffsetX(), getOffsetY(), getOffsetZ(),
 				getSpeed(), getAmount(), new int[0]
 		);
@@ -311,12 +343,10 @@ public final class ParticlePacket {
 	 * @see PropertyType#REQUIRES_ITEM
 	 */
 	private Object createTexturedParticlePacket(Location location, Object param) {
-		ParticleEffect effect = getParticle();
-		double version = ReflectionUtils.MINECRAFT_VERSION;
-		return createPacket(version < 13 ? effect.getNMSObject() : param,
-				(float) location.getX(), (float) location.getY(), (float) location.getZ(),
+		return VersionAdapters.CURRENT.createTexturedPacket(getParticle(), param,
+				location.getX(), location.getY(), location.getZ(),
 				getOffsetX(), getOffsetY(), getOffsetZ(),
-				getSpeed(), getAmount(), version < 13 ? (int[]) param : new int[0]
+				getSpeed(), getAmount()
 		);
 	}
 
@@ -334,23 +364,24 @@ public final class ParticlePacket {
 	private Object createColoredParticlePacket(Location location, Object param) {
 		ParticleEffect effect = getParticle();
 		ParticleData data = getParticleData();
+		VersionAdapter adapter = VersionAdapters.CURRENT;
 		if (data instanceof NoteColor && effect.equals(NOTE)) {
-			return createPacket(effect.getNMSObject(),
-					(float) location.getX(), (float) location.getY(), (float) location.getZ(),
+			return adapter.createPacket(effect.getNMSObject(),
+					location.getX(), location.getY(), location.getZ(),
 					((NoteColor) data).getRed(), 0f, 0f,
 					getSpeed(), getAmount(), new int[0]
 			);
 		} else if (data instanceof RegularColor) {
 			RegularColor color = ((RegularColor) data);
-			if (ReflectionUtils.MINECRAFT_VERSION < 13 || !effect.equals(REDSTONE)) {
-				return createPacket(effect.getNMSObject(),
-						(float) location.getX(), (float) location.getY(), (float) location.getZ(),
+			if (adapter.usesOffsetColor(effect)) {
+				return adapter.createPacket(effect.getNMSObject(),
+						location.getX(), location.getY(), location.getZ(),
 						(effect.equals(REDSTONE) && color.getRed() == 0 ? Float.MIN_NORMAL : color.getRed()), color.getGreen(), color.getBlue(),
 						1f, 0, new int[0]
 				);
 			} else {
-				return createPacket(param,
-						(float) location.getX(), (float) location.getY(), (float) location.getZ(),
+				return adapter.createPacket(param,
+						location.getX(), location.getY(), location.getZ(),
 						getOffsetX(), getOffsetY(), getOffsetZ(),
 						getSpeed(), getAmount(), new int[0]
 				);
@@ -358,36 +389,4 @@ public final class ParticlePacket {
 		} else return null;
 	}
 
-	/**
-	 * Creates a new PacketPlayOutWorldParticles
-	 * object with the given data.
-	 *
-	 * @param param     the ParticleParam of the  packet.
-	 * @param locationX the x coordinate of the location the particle
-	 *                  should be displayed at.
-	 * @param locationY the y coordinate of the location the particle
-	 *                  should be displayed at.
-	 * @param locationZ the z coordinate of the location the particle
-	 *                  should be displayed at.
-	 * @param offsetX   the offset x value of the packet.
-	 * @param offsetY   the offset y value of the packet.
-	 * @param offsetZ   the offset z value of the packet.
-	 * @param speed     the speed of the particle.
-	 * @param amount    the amount of particles.
-	 * @param data      extra data for the particle.
-	 * @return A PacketPlayOutWorldParticles instance with the given data or {@code null} if an error occurs.
-	 */
-	private Object createPacket(Object param, float locationX, float locationY, float locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount, int[] data) {
-		Constructor packetConstructor = PACKET_PLAY_OUT_WORLD_PARTICLES_CONSTRUCTOR;
-		try {
-			if (ReflectionUtils.MINECRAFT_VERSION < 13)
-				return packetConstructor.newInstance(param, true, locationX, locationY, locationZ, offsetX, offsetY, offsetZ, speed, amount, data);
-			if (ReflectionUtils.MINECRAFT_VERSION < 15)
-				return packetConstructor.newInstance(param, true, locationX, locationY, locationZ, offsetX, offsetY, offsetZ, speed, amount);
-			return packetConstructor.newInstance(param, true, (double) locationX, (double) locationY, (double) locationZ, offsetX, offsetY, offsetZ, speed, amount);
-		} catch (Exception ex) {
-			return null;
-		}
-	}
-
 }
@@ -0,0 +1,132 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.animation;
+
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+
+/**
+ * A {@link Timeline} that is played at a location. Animations are advanced
+ * by the shared {@link AnimationTicker}, frames are only evaluated and sent
+ * while the audience has a recipient near the origin.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class Animation {
+
+	private final Timeline timeline;
+	private final Location origin;
+	private final Audience audience;
+	/**
+	 * The location of the current frame, reused unless emissions are handed to other regions.
+	 */
+	private final Location position;
+	private int tick;
+	private volatile boolean stopped;
+
+	Animation(Timeline timeline, Location origin, Audience audience) {
+		this.timeline = timeline;
+		this.origin = origin.clone();
+		this.audience = audience;
+		this.position = origin.clone();
+	}
+
+	/**
+	 * Gets the played {@link Timeline}.
+	 *
+	 * @return the timeline of this animation.
+	 */
+	public Timeline getTimeline() {
+		return timeline;
+	}
+
+	/**
+	 * Gets the index of the next frame.
+	 *
+	 * @return the current tick of the animation.
+	 */
+	public int getTick() {
+		return tick;
+	}
+
+	/**
+	 * Checks if the animation ended or was stopped.
+	 *
+	 * @return {@code true} if the animation doesn't run anymore.
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * Stops the animation. It's removed from the ticker in the next tick.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Displays the current frame and advances the animation.
+	 *
+	 * @return {@code false} if the animation ended.
+	 */
+	boolean tick() {
+		if (stopped)
+			return false;
+
+		if (tick >= timeline.getDuration()) {
+			if (!timeline.isLooping()) {
+				stopped = true;
+				return false;
+			}
+			tick = 0;
+		}
+
+		if (hasViewers()) {
+			Timeline.Frame frame = timeline.getFrame(tick);
+			Location location = SchedulerUtils.isRegionized() ? origin.clone() : position;
+			location.setX(origin.getX() + frame.x);
+			location.setY(origin.getY() + frame.y);
+			location.setZ(origin.getZ() + frame.z);
+			NMSUtils.display(frame.packet, location, audience);
+		}
+
+		tick++;
+		return true;
+	}
+
+	/**
+	 * Checks if any recipient could see the animation. On Folia the recipients can't
+	 * be resolved from the ticker thread, so the check is left to the owning region.
+	 *
+	 * @return {@code true} if the current frame should be displayed.
+	 */
+	private boolean hasViewers() {
+		if (SchedulerUtils.FOLIA)
+			return true;
+
+		boolean[] found = new boolean[1];
+		audience.forEach(origin, player -> found[0] = true);
+		return found[0];
+	}
+}
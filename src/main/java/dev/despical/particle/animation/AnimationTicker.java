@@ -0,0 +1,81 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.animation;
+
+import dev.despical.particle.utils.SchedulerUtils;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Advances every running {@link Animation} from a single repeating task
+ * instead of one task per animation. The task is started with the first
+ * animation and requires {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class AnimationTicker {
+
+	private static final Queue<Animation> ANIMATIONS = new ConcurrentLinkedQueue<>();
+
+	private static SchedulerUtils.Task task;
+
+	private AnimationTicker() {
+	}
+
+	/**
+	 * Gets the amount of running animations.
+	 *
+	 * @return the amount of running animations.
+	 */
+	public static int getRunning() {
+		return ANIMATIONS.size();
+	}
+
+	/**
+	 * Stops every running animation and the ticker task.
+	 */
+	public static synchronized void shutdown() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+
+		for (Animation animation : ANIMATIONS)
+			animation.stop();
+		ANIMATIONS.clear();
+	}
+
+	static synchronized void add(Animation animation) {
+		if (task == null)
+			task = SchedulerUtils.runTimer(AnimationTicker::tick, 1, 1);
+		ANIMATIONS.add(animation);
+	}
+
+	private static void tick() {
+		Iterator<Animation> iterator = ANIMATIONS.iterator();
+		while (iterator.hasNext()) {
+			if (!iterator.next().tick())
+				iterator.remove();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.animation;
+
+/**
+ * Maps the linear progress between two keyframes to the progress of the
+ * animated value. Both values are in the range {@code [0, 1]}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+@FunctionalInterface
+public interface Interpolation {
+
+	/**
+	 * Changes the value at a constant rate.
+	 */
+	Interpolation LINEAR = progress -> progress;
+	/**
+	 * Keeps the value of the first keyframe until the next keyframe is reached.
+	 */
+	Interpolation STEP = progress -> progress < 1 ? 0 : 1;
+	/**
+	 * Starts slow and speeds up.
+	 */
+	Interpolation EASE_IN = progress -> progress * progress;
+	/**
+	 * Starts fast and slows down.
+	 */
+	Interpolation EASE_OUT = progress -> progress * (2 - progress);
+	/**
+	 * Starts and ends slow.
+	 */
+	Interpolation EASE_IN_OUT = progress -> progress * progress * (3 - 2 * progress);
+
+	/**
+	 * Calculates the progress of the animated value.
+	 *
+	 * @param progress the linear progress between two keyframes.
+	 * @return the progress of the value.
+	 */
+	float apply(float progress);
+
+	/**
+	 * Creates a cubic bezier curve from {@code (0, 0)} to {@code (1, 1)} with the
+	 * given control points, just like the {@code cubic-bezier} timing function of CSS.
+	 *
+	 * @param x1 the x coordinate of the first control point, between 0 and 1.
+	 * @param y1 the y coordinate of the first control point.
+	 * @param x2 the x coordinate of the second control point, between 0 and 1.
+	 * @param y2 the y coordinate of the second control point.
+	 * @return the bezier {@link Interpolation}.
+	 */
+	static Interpolation bezier(float x1, float y1, float x2, float y2) {
+		if (x1 < 0 || x1 > 1 || x2 < 0 || x2 > 1)
+			throw new IllegalArgumentException("The x coordinates of the control points must be between 0 and 1");
+
+		// Coefficients of the polynomial form of both coordinates.
+		float cx = 3 * x1, bx = 3 * (x2 - x1) - cx, ax = 1 - cx - bx;
+		float cy = 3 * y1, by = 3 * (y2 - y1) - cy, ay = 1 - cy - by;
+
+		return progress -> {
+			if (progress <= 0 || progress >= 1)
+				return progress <= 0 ? 0 : 1;
+
+			// Newton's method converges within a few steps for most curves, fall back to bisection otherwise.
+			float t = progress;
+			for (int i = 0; i < 8; i++) {
+				float error = ((ax * t + bx) * t + cx) * t - progress;
+				if (Math.abs(error) < 1E-5F)
+					return ((ay * t + by) * t + cy) * t;
+				float derivative = (3 * ax * t + 2 * bx) * t + cx;
+				if (Math.abs(derivative) < 1E-6F)
+					break;
+				t -= error / derivative;
+			}
+
+			float low = 0, high = 1;
+			t = progress;
+			for (int i = 0; i < 32; i++) {
+				float x = ((ax * t + bx) * t + cx) * t;
+				if (Math.abs(x - progress) < 1E-5F)
+					break;
+				if (x < progress)
+					low = t;
+				else
+					high = t;
+				t = (low + high) / 2;
+			}
+			return ((ay * t + by) * t + cy) * t;
+		};
+	}
+}
@@ -0,0 +1,382 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.animation;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.color.RegularColor;
+import org.bukkit.Location;
+
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable particle animation made of keyframes for the position, color,
+ * size and amount of a particle. The same timeline can be played any number
+ * of times at different locations.
+ * <p>
+ * Frames are evaluated the first time they are displayed and stored in a
+ * frame table shared by every {@link Animation} of this timeline, including
+ * the {@link ParticlePacket} of the frame. Consecutive frames with the same
+ * color, size and amount share their packet, so its nms data is only created once.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class Timeline {
+
+	private final ParticleEffect effect;
+	private final float offsetX, offsetY, offsetZ, speed;
+	private final Track position, color, size, amount;
+	private final int duration;
+	private final boolean loop;
+	private final AtomicReferenceArray<Frame> frames;
+
+	private Timeline(Builder builder) {
+		this.effect = builder.effect;
+		this.offsetX = builder.offsetX;
+		this.offsetY = builder.offsetY;
+		this.offsetZ = builder.offsetZ;
+		this.speed = builder.speed;
+		this.position = Track.of(builder.position, 3);
+		this.color = Track.of(builder.color, 3);
+		this.size = Track.of(builder.size, 1);
+		this.amount = Track.of(builder.amount, 1);
+		this.loop = builder.loop;
+
+		int duration = builder.duration;
+		if (duration <= 0) {
+			for (Track track : new Track[] {position, color, size, amount}) {
+				if (track != null)
+					duration = Math.max(duration, track.getLastTick() + 1);
+			}
+		}
+		this.duration = Math.max(1, duration);
+		this.frames = new AtomicReferenceArray<>(this.duration);
+	}
+
+	/**
+	 * Creates a new {@link Builder} for a timeline of the given effect.
+	 *
+	 * @param effect the {@link ParticleEffect} that should be animated.
+	 * @return a new {@link Builder}.
+	 */
+	public static Builder builder(ParticleEffect effect) {
+		return new Builder(effect);
+	}
+
+	/**
+	 * Gets the animated {@link ParticleEffect}.
+	 *
+	 * @return the effect of this timeline.
+	 */
+	public ParticleEffect getEffect() {
+		return effect;
+	}
+
+	/**
+	 * Gets the length of this timeline.
+	 *
+	 * @return the amount of frames.
+	 */
+	public int getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Checks if the timeline starts over once it ended.
+	 *
+	 * @return {@code true} if the timeline loops.
+	 */
+	public boolean isLooping() {
+		return loop;
+	}
+
+	/**
+	 * Starts playing this timeline at the given location.
+	 *
+	 * @param origin   the {@link Location} the positions of the timeline are relative to.
+	 * @param audience the {@link Audience} that should see the animation.
+	 * @return the running {@link Animation}.
+	 */
+	public Animation play(Location origin, Audience audience) {
+		Animation animation = new Animation(this, origin, audience);
+		AnimationTicker.add(animation);
+		return animation;
+	}
+
+	/**
+	 * Gets the position offset of the given frame.
+	 *
+	 * @param tick        the index of the frame.
+	 * @param destination the array the x, y and z offset are written into.
+	 */
+	public void getPosition(int tick, double[] destination) {
+		Frame frame = getFrame(tick);
+		destination[0] = frame.x;
+		destination[1] = frame.y;
+		destination[2] = frame.z;
+	}
+
+	/**
+	 * Gets the {@link ParticlePacket} of the given frame. Consecutive frames with
+	 * the same data share the same packet.
+	 *
+	 * @param tick the index of the frame.
+	 * @return the packet the frame is displayed with.
+	 */
+	public ParticlePacket getPacket(int tick) {
+		return getFrame(tick).packet;
+	}
+
+	/**
+	 * Gets a frame of this timeline and evaluates it if it wasn't displayed yet.
+	 *
+	 * @param tick the index of the frame.
+	 * @return the evaluated frame.
+	 */
+	Frame getFrame(int tick) {
+		Frame frame = frames.get(tick);
+		if (frame == null) {
+			frame = evaluate(tick);
+			// Another thread may have evaluated the frame in the meantime, both results are equal.
+			if (!frames.compareAndSet(tick, null, frame))
+				frame = frames.get(tick);
+		}
+		return frame;
+	}
+
+	private Frame evaluate(int tick) {
+		float[] values = new float[3];
+		double x = 0, y = 0, z = 0;
+		if (position != null) {
+			position.evaluate(tick, values);
+			x = values[0];
+			y = values[1];
+			z = values[2];
+		}
+
+		int red = -1, green = 0, blue = 0;
+		if (color != null) {
+			color.evaluate(tick, values);
+			red = Math.round(values[0]);
+			green = Math.round(values[1]);
+			blue = Math.round(values[2]);
+		}
+
+		float particleSize = 1;
+		if (size != null) {
+			size.evaluate(tick, values);
+			particleSize = values[0];
+		}
+
+		int particleAmount = 0;
+		if (amount != null) {
+			amount.evaluate(tick, values);
+			particleAmount = Math.round(values[0]);
+		}
+
+		ParticlePacket packet = null;
+		Frame previous = tick == 0 ? null : frames.get(tick - 1);
+		if (previous != null && previous.red == red && previous.green == green && previous.blue == blue
+				&& previous.size == particleSize && previous.packet.getAmount() == particleAmount)
+			packet = previous.packet;
+
+		if (packet == null)
+			packet = new ParticlePacket(effect, offsetX, offsetY, offsetZ, speed, particleAmount, createData(red, green, blue, particleSize));
+		return new Frame(x, y, z, red, green, blue, particleSize, packet);
+	}
+
+	private ParticleData createData(int red, int green, int blue, float size) {
+		ParticleData data = null;
+		if (effect.hasProperty(PropertyType.DUST)) {
+			data = red == -1 ? new DustData(255, 0, 0, size) : new DustData(red, green, blue, size);
+		} else if (red != -1 && effect.hasProperty(PropertyType.COLORABLE)) {
+			data = new RegularColor(red, green, blue);
+		}
+
+		if (data != null)
+			data.setEffect(effect);
+		return data;
+	}
+
+	/**
+	 * A single evaluated frame of a timeline.
+	 */
+	static final class Frame {
+
+		final double x, y, z;
+		final int red, green, blue;
+		final float size;
+		final ParticlePacket packet;
+
+		Frame(double x, double y, double z, int red, int green, int blue, float size, ParticlePacket packet) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.red = red;
+			this.green = green;
+			this.blue = blue;
+			this.size = size;
+			this.packet = packet;
+		}
+	}
+
+	/**
+	 * Collects the keyframes of a {@link Timeline}. Every keyframe uses its
+	 * {@link Interpolation} to get to the next keyframe of the same property.
+	 */
+	public static final class Builder {
+
+		private final ParticleEffect effect;
+		private final TreeMap<Integer, Track.Keyframe> position = new TreeMap<>(), color = new TreeMap<>(), size = new TreeMap<>(), amount = new TreeMap<>();
+		private float offsetX, offsetY, offsetZ, speed = 1;
+		private int duration;
+		private boolean loop;
+
+		private Builder(ParticleEffect effect) {
+			this.effect = Objects.requireNonNull(effect);
+		}
+
+		/**
+		 * Adds a position keyframe, relative to the origin of the animation.
+		 *
+		 * @param tick          the tick of the keyframe.
+		 * @param x             the x offset from the origin.
+		 * @param y             the y offset from the origin.
+		 * @param z             the z offset from the origin.
+		 * @param interpolation the {@link Interpolation} to the next position keyframe, linear if {@code null}.
+		 * @return the current instance to support building operations
+		 */
+		public Builder position(int tick, double x, double y, double z, Interpolation interpolation) {
+			position.put(checkTick(tick), new Track.Keyframe(interpolation, (float) x, (float) y, (float) z));
+			return this;
+		}
+
+		/**
+		 * Adds a color keyframe. Colors are used for dust and colorable particles.
+		 *
+		 * @param tick          the tick of the keyframe.
+		 * @param red           the red value, between 0 and 255.
+		 * @param green         the green value, between 0 and 255.
+		 * @param blue          the blue value, between 0 and 255.
+		 * @param interpolation the {@link Interpolation} to the next color keyframe, linear if {@code null}.
+		 * @return the current instance to support building operations
+		 */
+		public Builder color(int tick, int red, int green, int blue, Interpolation interpolation) {
+			color.put(checkTick(tick), new Track.Keyframe(interpolation, red, green, blue));
+			return this;
+		}
+
+		/**
+		 * Adds a size keyframe. Sizes are only used for dust particles.
+		 *
+		 * @param tick          the tick of the keyframe.
+		 * @param size          the size of the particle.
+		 * @param interpolation the {@link Interpolation} to the next size keyframe, linear if {@code null}.
+		 * @return the current instance to support building operations
+		 */
+		public Builder size(int tick, float size, Interpolation interpolation) {
+			this.size.put(checkTick(tick), new Track.Keyframe(interpolation, size));
+			return this;
+		}
+
+		/**
+		 * Adds an amount keyframe.
+		 *
+		 * @param tick          the tick of the keyframe.
+		 * @param amount        the amount of particles.
+		 * @param interpolation the {@link Interpolation} to the next amount keyframe, linear if {@code null}.
+		 * @return the current instance to support building operations
+		 */
+		public Builder amount(int tick, int amount, Interpolation interpolation) {
+			this.amount.put(checkTick(tick), new Track.Keyframe(interpolation, amount));
+			return this;
+		}
+
+		/**
+		 * Sets the offsets every frame is sent with.
+		 *
+		 * @param offsetX the offsetX or extra data of every frame.
+		 * @param offsetY the offsetY or extra data of every frame.
+		 * @param offsetZ the offsetZ or extra data of every frame.
+		 * @return the current instance to support building operations
+		 */
+		public Builder offset(float offsetX, float offsetY, float offsetZ) {
+			this.offsetX = offsetX;
+			this.offsetY = offsetY;
+			this.offsetZ = offsetZ;
+			return this;
+		}
+
+		/**
+		 * Sets the speed every frame is sent with.
+		 *
+		 * @param speed the multiplier of the velocity.
+		 * @return the current instance to support building operations
+		 */
+		public Builder speed(float speed) {
+			this.speed = speed;
+			return this;
+		}
+
+		/**
+		 * Sets the length of the timeline. By default the timeline ends after the last keyframe.
+		 *
+		 * @param duration the amount of frames.
+		 * @return the current instance to support building operations
+		 */
+		public Builder duration(int duration) {
+			this.duration = duration;
+			return this;
+		}
+
+		/**
+		 * Sets whether the timeline starts over once it ended.
+		 *
+		 * @param loop whether the timeline loops.
+		 * @return the current instance to support building operations
+		 */
+		public Builder loop(boolean loop) {
+			this.loop = loop;
+			return this;
+		}
+
+		/**
+		 * Creates the immutable {@link Timeline}.
+		 *
+		 * @return the new {@link Timeline}.
+		 */
+		public Timeline build() {
+			return new Timeline(this);
+		}
+
+		private static int checkTick(int tick) {
+			if (tick < 0)
+				throw new IllegalArgumentException("The tick of a keyframe can't be negative");
+			return tick;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.animation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The keyframes of a single animated property with any amount of components,
+ * e.g. three for a position or one for a size.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class Track {
+
+	private final int[] ticks;
+	/**
+	 * The values of all keyframes, {@code dimensions} components per keyframe.
+	 */
+	private final float[] values;
+	/**
+	 * The interpolation from every keyframe to the next one.
+	 */
+	private final Interpolation[] interpolations;
+	private final int dimensions;
+
+	private Track(int[] ticks, float[] values, Interpolation[] interpolations, int dimensions) {
+		this.ticks = ticks;
+		this.values = values;
+		this.interpolations = interpolations;
+		this.dimensions = dimensions;
+	}
+
+	/**
+	 * Creates a track from keyframes sorted by their tick.
+	 *
+	 * @param keyframes  the keyframes by tick.
+	 * @param dimensions the amount of components of every value.
+	 * @return the new track or {@code null} if there are no keyframes.
+	 */
+	static Track of(TreeMap<Integer, Keyframe> keyframes, int dimensions) {
+		if (keyframes.isEmpty())
+			return null;
+
+		int size = keyframes.size(), index = 0;
+		int[] ticks = new int[size];
+		float[] values = new float[size * dimensions];
+		Interpolation[] interpolations = new Interpolation[size];
+		for (Map.Entry<Integer, Keyframe> entry : keyframes.entrySet()) {
+			ticks[index] = entry.getKey();
+			System.arraycopy(entry.getValue().values, 0, values, index * dimensions, dimensions);
+			interpolations[index] = entry.getValue().interpolation;
+			index++;
+		}
+		return new Track(ticks, values, interpolations, dimensions);
+	}
+
+	/**
+	 * Gets the tick of the last keyframe.
+	 *
+	 * @return the last tick of the track.
+	 */
+	int getLastTick() {
+		return ticks[ticks.length - 1];
+	}
+
+	/**
+	 * Evaluates the value at the given tick.
+	 *
+	 * @param tick the tick of the animation.
+	 * @param out  the array the components are written to.
+	 */
+	void evaluate(int tick, float[] out) {
+		int last = ticks.length - 1;
+		if (tick <= ticks[0] || last == 0) {
+			System.arraycopy(values, 0, out, 0, dimensions);
+			return;
+		}
+		if (tick >= ticks[last]) {
+			System.arraycopy(values, last * dimensions, out, 0, dimensions);
+			return;
+		}
+
+		int index = 0;
+		while (ticks[index + 1] <= tick)
+			index++;
+
+		float progress = interpolations[index].apply((float) (tick - ticks[index]) / (ticks[index + 1] - ticks[index]));
+		int from = index * dimensions, to = from + dimensions;
+		for (int i = 0; i < dimensions; i++)
+			out[i] = values[from + i] + (values[to + i] - values[from + i]) * progress;
+	}
+
+	/**
+	 * A single value of a track before it's built.
+	 */
+	static final class Keyframe {
+
+		private final float[] values;
+		private final Interpolation interpolation;
+
+		Keyframe(Interpolation interpolation, float... values) {
+			this.values = values;
+			this.interpolation = interpolation == null ? Interpolation.LINEAR : interpolation;
+		}
+	}
+}
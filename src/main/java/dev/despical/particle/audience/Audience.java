@@ -0,0 +1,172 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.utils.NMSUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Describes who should receive a particle. Recipients are resolved lazily
+ * when the particle is displayed, by walking the underlying players and
+ * handing every match to a {@link Consumer} without building any
+ * intermediate collections.
+ * <p>
+ * Audiences only select candidates, the display code still skips players
+ * that are not in the world of the particle. The audiences created by the
+ * factory methods are equal if they select the same players.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public interface Audience {
+
+	/**
+	 * The {@link Audience} returned by {@link #world()}. Display code may broadcast
+	 * to it through the world instead of resolving every player.
+	 */
+	Audience WORLD = (location, action) -> {
+		RecipientSnapshot snapshot = RecipientSnapshot.get();
+		int world = snapshot == null ? -1 : snapshot.indexOf(location.getWorld());
+		if (world != -1) {
+			for (int i = snapshot.getStart(world), end = snapshot.getEnd(world); i < end; i++)
+				action.accept(snapshot.getPlayer(i));
+			return;
+		}
+
+		for (Player player : Bukkit.getOnlinePlayers()) {
+			if (NMSUtils.isInRange(player, location))
+				action.accept(player);
+		}
+	};
+
+	/**
+	 * Passes every recipient of a particle at the given {@link Location} to the action.
+	 *
+	 * @param location the {@link Location} of the particle.
+	 * @param action   the action that should be called for every recipient.
+	 */
+	void forEach(Location location, Consumer<? super Player> action);
+
+	/**
+	 * Creates a new {@link Audience} that only contains the recipients of this
+	 * audience that match the given filter.
+	 *
+	 * @param filter a {@link Predicate} to filter out specific {@link Player Players}.
+	 * @return the filtered {@link Audience}.
+	 */
+	default Audience filter(Predicate<? super Player> filter) {
+		Objects.requireNonNull(filter);
+		return (location, action) -> forEach(location, player -> {
+			if (filter.test(player))
+				action.accept(player);
+		});
+	}
+
+	/**
+	 * An {@link Audience} that only contains the given {@link Player}.
+	 *
+	 * @param player the player that should see the particle.
+	 * @return a single player {@link Audience}.
+	 */
+	static Audience of(Player player) {
+		return new Audiences.Single(Objects.requireNonNull(player));
+	}
+
+	/**
+	 * An {@link Audience} containing the players in the array.
+	 *
+	 * @param players the players that should see the particle.
+	 * @return an {@link Audience} backed by the array.
+	 */
+	static Audience of(Player... players) {
+		return new Audiences.Array(Objects.requireNonNull(players));
+	}
+
+	/**
+	 * An {@link Audience} containing the players in the {@link Collection}. The
+	 * collection is read every time a particle is displayed.
+	 *
+	 * @param players the players that should see the particle.
+	 * @return an {@link Audience} backed by the collection.
+	 */
+	static Audience of(Collection<? extends Player> players) {
+		return new Audiences.Backed(Objects.requireNonNull(players));
+	}
+
+	/**
+	 * An {@link Audience} containing every player in the world of the particle.
+	 *
+	 * @return the world {@link Audience}.
+	 */
+	static Audience world() {
+		return WORLD;
+	}
+
+	/**
+	 * An {@link Audience} containing every online player that matches the given filter.
+	 *
+	 * @param filter a {@link Predicate} to filter out specific {@link Player Players}.
+	 * @return the filtered {@link Audience}.
+	 */
+	static Audience matching(Predicate<? super Player> filter) {
+		return new Audiences.Matching(Objects.requireNonNull(filter));
+	}
+
+	/**
+	 * An {@link Audience} containing every player within the given radius around the particle.
+	 *
+	 * @param radius the maximum distance between a player and the particle.
+	 * @return the radius {@link Audience}.
+	 */
+	static Audience radius(double radius) {
+		return new Audiences.Radius(radius);
+	}
+
+	/**
+	 * An {@link Audience} containing every player in the world of the particle
+	 * that has the given permission.
+	 *
+	 * @param permission the permission a player needs to see the particle.
+	 * @return the permission {@link Audience}.
+	 */
+	static Audience permission(String permission) {
+		return new Audiences.Permission(Objects.requireNonNull(permission));
+	}
+
+	/**
+	 * Creates a new {@link Audience} of the players that can see the given entity,
+	 * resolved through the entity tracker of the server instead of scanning every
+	 * player of the world. If the entity is a player it receives the particle too.
+	 *
+	 * @param entity the {@link Entity} whose viewers should receive the particle.
+	 * @return the tracker {@link Audience}.
+	 */
+	static Audience tracking(Entity entity) {
+		return new TrackerAudience(Objects.requireNonNull(entity));
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.utils.NMSUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The {@link Audience} implementations created by the factory methods of the
+ * interface. They are compared by what they select, so two audiences created
+ * by separate calls with the same arguments are equal, e.g. when particles are
+ * merged by the {@link dev.despical.particle.emission.ParticleCoalescer}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class Audiences {
+
+	private Audiences() {
+	}
+
+	/**
+	 * A single player, see {@link Audience#of(Player)}.
+	 */
+	static final class Single implements Audience {
+
+		private final Player player;
+
+		Single(Player player) {
+			this.player = player;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			action.accept(player);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Single && player.equals(((Single) object).player);
+		}
+
+		@Override
+		public int hashCode() {
+			return player.hashCode();
+		}
+	}
+
+	/**
+	 * The players of an array, see {@link Audience#of(Player...)}. Equal if the arrays hold the same players.
+	 */
+	static final class Array implements Audience {
+
+		private final Player[] players;
+
+		Array(Player[] players) {
+			this.players = players;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			for (Player player : players)
+				action.accept(player);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Array && Arrays.equals(players, ((Array) object).players);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(players);
+		}
+	}
+
+	/**
+	 * The players of a collection, see {@link Audience#of(Collection)}. The collection
+	 * is read lazily, so audiences are only equal if they are backed by the same collection.
+	 */
+	static final class Backed implements Audience {
+
+		private final Collection<? extends Player> players;
+
+		Backed(Collection<? extends Player> players) {
+			this.players = players;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			for (Player player : players)
+				action.accept(player);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Backed && players == ((Backed) object).players;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(players);
+		}
+	}
+
+	/**
+	 * The online players that match a filter, see {@link Audience#matching(Predicate)}.
+	 */
+	static final class Matching implements Audience {
+
+		private final Predicate<? super Player> filter;
+
+		Matching(Predicate<? super Player> filter) {
+			this.filter = filter;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			for (Player player : Bukkit.getOnlinePlayers()) {
+				if (filter.test(player))
+					action.accept(player);
+			}
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Matching && filter.equals(((Matching) object).filter);
+		}
+
+		@Override
+		public int hashCode() {
+			return filter.hashCode();
+		}
+	}
+
+	/**
+	 * The players within a radius around the particle, see {@link Audience#radius(double)}.
+	 */
+	static final class Radius implements Audience {
+
+		private final double radius, radiusSquared;
+
+		Radius(double radius) {
+			this.radius = radius;
+			this.radiusSquared = radius * radius;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			double x = location.getX(), y = location.getY(), z = location.getZ();
+			RecipientSnapshot snapshot = RecipientSnapshot.get();
+			int world = snapshot == null ? -1 : snapshot.indexOf(location.getWorld());
+			if (world != -1) {
+				for (int i = snapshot.getStart(world), end = snapshot.getEnd(world); i < end; i++) {
+					double dx = snapshot.getX(i) - x, dy = snapshot.getY(i) - y, dz = snapshot.getZ(i) - z;
+					if (dx * dx + dy * dy + dz * dz <= radiusSquared)
+						action.accept(snapshot.getPlayer(i));
+				}
+				return;
+			}
+
+			Location position = new Location(location.getWorld(), 0, 0, 0);
+			for (Player player : Bukkit.getOnlinePlayers()) {
+				if (!NMSUtils.isInRange(player, location))
+					continue;
+				player.getLocation(position);
+				double dx = position.getX() - x, dy = position.getY() - y, dz = position.getZ() - z;
+				if (dx * dx + dy * dy + dz * dz <= radiusSquared)
+					action.accept(player);
+			}
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Radius && Double.compare(radius, ((Radius) object).radius) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Double.hashCode(radius);
+		}
+	}
+
+	/**
+	 * The players of the world that have a permission, see {@link Audience#permission(String)}.
+	 */
+	static final class Permission implements Audience {
+
+		private final String permission;
+
+		Permission(String permission) {
+			this.permission = permission;
+		}
+
+		@Override
+		public void forEach(Location location, Consumer<? super Player> action) {
+			Audience.WORLD.forEach(location, player -> {
+				if (player.hasPermission(permission))
+					action.accept(player);
+			});
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Permission && permission.equals(((Permission) object).permission);
+		}
+
+		@Override
+		public int hashCode() {
+			return permission.hashCode();
+		}
+	}
+}
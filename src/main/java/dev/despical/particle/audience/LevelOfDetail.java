@@ -0,0 +1,177 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.ParticleEffect;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the particles far away viewers receive. Every distance band keeps
+ * one out of {@code stride} particles, chosen by hashing the effect and the
+ * position, so the same points of an animation stay visible every frame.
+ * Viewers beyond the last band don't receive the particle at all.
+ * <p>
+ * When the amount is scaled, kept particles are sent with their amount
+ * multiplied by the stride. Particles with offsets are then scattered by the
+ * client and the cloud keeps its density with fewer packets.
+ * <p>
+ * Instances are immutable, every {@link #band(double, int)} call creates a new one.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class LevelOfDetail {
+
+	/**
+	 * Sends every particle to every viewer.
+	 */
+	public static final LevelOfDetail NONE = new LevelOfDetail(new double[0], new int[0], false);
+
+	/**
+	 * The squared maximum distance of every band in ascending order.
+	 */
+	private final double[] distancesSquared;
+	private final int[] strides;
+	private final boolean scaleAmount;
+
+	private LevelOfDetail(double[] distancesSquared, int[] strides, boolean scaleAmount) {
+		this.distancesSquared = distancesSquared;
+		this.strides = strides;
+		this.scaleAmount = scaleAmount;
+	}
+
+	/**
+	 * Creates a new {@link LevelOfDetail} without any band.
+	 *
+	 * @return an empty {@link LevelOfDetail}.
+	 */
+	public static LevelOfDetail create() {
+		return new LevelOfDetail(new double[0], new int[0], false);
+	}
+
+	/**
+	 * Creates a copy of this policy with a new band.
+	 *
+	 * @param maxDistance the maximum distance between the viewer and the particle.
+	 * @param stride      one out of {@code stride} particles is sent to viewers in this band.
+	 * @return a new {@link LevelOfDetail} with the additional band.
+	 */
+	public LevelOfDetail band(double maxDistance, int stride) {
+		if (maxDistance <= 0)
+			throw new IllegalArgumentException("The distance of a band must be positive");
+		if (stride < 1)
+			throw new IllegalArgumentException("The stride of a band must be at least 1");
+
+		double distanceSquared = maxDistance * maxDistance;
+		int index = Arrays.binarySearch(distancesSquared, distanceSquared);
+		if (index >= 0)
+			throw new IllegalArgumentException("There is already a band with the distance " + maxDistance);
+
+		index = -index - 1;
+		double[] distances = new double[distancesSquared.length + 1];
+		int[] newStrides = new int[strides.length + 1];
+		System.arraycopy(distancesSquared, 0, distances, 0, index);
+		System.arraycopy(strides, 0, newStrides, 0, index);
+		distances[index] = distanceSquared;
+		newStrides[index] = stride;
+		System.arraycopy(distancesSquared, index, distances, index + 1, distancesSquared.length - index);
+		System.arraycopy(strides, index, newStrides, index + 1, strides.length - index);
+		return new LevelOfDetail(distances, newStrides, scaleAmount);
+	}
+
+	/**
+	 * Creates a copy of this policy that multiplies the amount of kept particles by the stride.
+	 *
+	 * @param scaleAmount whether the amount should be scaled.
+	 * @return a new {@link LevelOfDetail} with the given setting.
+	 */
+	public LevelOfDetail scaleAmount(boolean scaleAmount) {
+		return new LevelOfDetail(distancesSquared, strides, scaleAmount);
+	}
+
+	/**
+	 * Checks if this policy doesn't change any particle.
+	 *
+	 * @return {@code true} if there are no bands.
+	 */
+	public boolean isEmpty() {
+		return strides.length == 0;
+	}
+
+	/**
+	 * Gets the amount of bands.
+	 *
+	 * @return the amount of bands.
+	 */
+	public int getBands() {
+		return strides.length;
+	}
+
+	/**
+	 * Gets the band of a viewer.
+	 *
+	 * @param distanceSquared the squared distance between the viewer and the particle.
+	 * @return the index of the band or {@code -1} if the viewer is too far away.
+	 */
+	public int getBand(double distanceSquared) {
+		for (int i = 0; i < distancesSquared.length; i++) {
+			if (distanceSquared <= distancesSquared[i])
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the stride of a band.
+	 *
+	 * @param band the index of the band.
+	 * @return one out of how many particles viewers in the band receive.
+	 */
+	public int getStride(int band) {
+		return strides[band];
+	}
+
+	/**
+	 * Checks if a particle is kept for viewers in the given band.
+	 *
+	 * @param band   the index of the band.
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param x      the x coordinate of the particle.
+	 * @param y      the y coordinate of the particle.
+	 * @param z      the z coordinate of the particle.
+	 * @return {@code true} if the particle should be sent.
+	 */
+	public boolean keeps(int band, ParticleEffect effect, double x, double y, double z) {
+		int stride = strides[band];
+		return stride == 1 || (ParticleDensity.hash(effect, x, y, z) >>> 32) % stride == 0;
+	}
+
+	/**
+	 * Gets the amount a kept particle is sent with in the given band.
+	 *
+	 * @param band   the index of the band.
+	 * @param amount the amount of the particle.
+	 * @return the scaled amount, or the given amount if the amount isn't scaled.
+	 */
+	public int getAmount(int band, int amount) {
+		return scaleAmount && amount > 0 ? amount * strides[band] : amount;
+	}
+}
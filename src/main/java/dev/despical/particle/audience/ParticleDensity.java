@@ -0,0 +1,94 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.ParticleEffect;
+
+/**
+ * The amount of particles a player wants to see, similar to the particle
+ * setting of the client. Emissions are thinned deterministically by hashing
+ * the effect and the position, so a point of an animation is either always
+ * shown or never and the remaining points don't flicker.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public enum ParticleDensity {
+
+	/**
+	 * Every particle is displayed.
+	 */
+	ALL(256),
+	/**
+	 * About half of the particles are displayed.
+	 */
+	DECREASED(128),
+	/**
+	 * About an eighth of the particles are displayed.
+	 */
+	MINIMAL(32);
+
+	/**
+	 * Out of 256 emissions the amount that is kept.
+	 */
+	private final int threshold;
+
+	ParticleDensity(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Checks if a particle at the given position is kept with this density.
+	 *
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param x      the x coordinate of the particle.
+	 * @param y      the y coordinate of the particle.
+	 * @param z      the z coordinate of the particle.
+	 * @return {@code true} if the particle should be displayed.
+	 */
+	public boolean keeps(ParticleEffect effect, double x, double y, double z) {
+		if (threshold == 256)
+			return true;
+
+		return (hash(effect, x, y, z) & 0xFF) < threshold;
+	}
+
+	/**
+	 * Hashes a particle, so the same particle always produces the same value.
+	 *
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param x      the x coordinate of the particle.
+	 * @param y      the y coordinate of the particle.
+	 * @param z      the z coordinate of the particle.
+	 * @return the well distributed hash of the particle.
+	 */
+	static long hash(ParticleEffect effect, double x, double y, double z) {
+		long hash = effect.ordinal();
+		hash = hash * 31 + Double.doubleToLongBits(x);
+		hash = hash * 31 + Double.doubleToLongBits(y);
+		hash = hash * 31 + Double.doubleToLongBits(z);
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
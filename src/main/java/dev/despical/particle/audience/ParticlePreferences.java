@@ -0,0 +1,211 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.metrics.ParticleMetrics;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the {@link ParticleDensity} and the packet rate limit of every
+ * player. The limit is a token bucket that refills continuously and holds at
+ * most one second worth of packets.
+ * <p>
+ * Preferences, including the rate limit of players that only use the default
+ * limit, are removed when the player quits once
+ * {@link dev.despical.particle.utils.SchedulerUtils#init(org.bukkit.plugin.Plugin)} was called.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticlePreferences {
+
+	private static final Map<UUID, Preference> PREFERENCES = new ConcurrentHashMap<>();
+
+	/**
+	 * The packets per second of players without their own limit, {@code 0} means unlimited.
+	 */
+	private static volatile int defaultPacketsPerSecond;
+
+	private ParticlePreferences() {
+	}
+
+	/**
+	 * Gets the {@link ParticleDensity} of the given player.
+	 *
+	 * @param player the {@link Player} whose density should be returned.
+	 * @return the density of the player, {@link ParticleDensity#ALL} by default.
+	 */
+	public static ParticleDensity getDensity(Player player) {
+		Preference preference = PREFERENCES.get(player.getUniqueId());
+		return preference == null ? ParticleDensity.ALL : preference.density;
+	}
+
+	/**
+	 * Sets the {@link ParticleDensity} of the given player.
+	 *
+	 * @param player  the {@link Player} whose density should be changed.
+	 * @param density the new density.
+	 */
+	public static void setDensity(Player player, ParticleDensity density) {
+		Objects.requireNonNull(density);
+		preferenceOf(player).density = density;
+	}
+
+	/**
+	 * Sets the maximum amount of particle packets the given player receives per second.
+	 *
+	 * @param player           the {@link Player} whose limit should be changed.
+	 * @param packetsPerSecond the new limit, {@code 0} for unlimited or {@code -1}
+	 *                         to use the {@link #setDefaultPacketsPerSecond(int) default}.
+	 */
+	public static void setPacketsPerSecond(Player player, int packetsPerSecond) {
+		if (packetsPerSecond < -1)
+			throw new IllegalArgumentException("The packet limit can't be lower than -1");
+		preferenceOf(player).packetsPerSecond = packetsPerSecond;
+	}
+
+	/**
+	 * Gets the packets per second of players without their own limit.
+	 *
+	 * @return the default limit, {@code 0} means unlimited.
+	 */
+	public static int getDefaultPacketsPerSecond() {
+		return defaultPacketsPerSecond;
+	}
+
+	/**
+	 * Sets the packets per second of players without their own limit.
+	 *
+	 * @param packetsPerSecond the new default limit, {@code 0} for unlimited.
+	 */
+	public static void setDefaultPacketsPerSecond(int packetsPerSecond) {
+		if (packetsPerSecond < 0)
+			throw new IllegalArgumentException("The packet limit can't be negative");
+		defaultPacketsPerSecond = packetsPerSecond;
+	}
+
+	/**
+	 * Forgets the preferences of the player with the given {@link UUID}.
+	 *
+	 * @param uuid the {@link UUID} of the player.
+	 */
+	public static void remove(UUID uuid) {
+		PREFERENCES.remove(uuid);
+	}
+
+	/**
+	 * Checks if any player could be filtered, so a particle can't be broadcast
+	 * to a whole world at once.
+	 *
+	 * @return {@code true} if there is a preference or a default limit.
+	 */
+	public static boolean isActive() {
+		return defaultPacketsPerSecond != 0 || !PREFERENCES.isEmpty();
+	}
+
+	/**
+	 * Checks if the given player should receive a particle and takes a packet from
+	 * the rate limit of the player. Particles dropped by the limit are recorded in
+	 * the {@link ParticleMetrics}.
+	 *
+	 * @param player   the receiving {@link Player}.
+	 * @param effect   the {@link ParticleEffect} of the particle.
+	 * @param location the {@link Location} of the particle.
+	 * @return {@code true} if the particle should be sent to the player.
+	 */
+	public static boolean accept(Player player, ParticleEffect effect, Location location) {
+		return accept(player, effect, location.getX(), location.getY(), location.getZ());
+	}
+
+	/**
+	 * Checks if the given player should receive a particle at the given position.
+	 *
+	 * @param player the receiving {@link Player}.
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param x      the x coordinate of the particle.
+	 * @param y      the y coordinate of the particle.
+	 * @param z      the z coordinate of the particle.
+	 * @return {@code true} if the particle should be sent to the player.
+	 * @see #accept(Player, ParticleEffect, Location)
+	 */
+	public static boolean accept(Player player, ParticleEffect effect, double x, double y, double z) {
+		if (!isActive())
+			return true;
+
+		Preference preference = PREFERENCES.get(player.getUniqueId());
+		int defaultLimit = defaultPacketsPerSecond;
+		if (preference == null) {
+			// Particles that are still sent after a player quit must not bring the removed entry back.
+			if (defaultLimit == 0 || !player.isOnline())
+				return true;
+			preference = preferenceOf(player);
+		}
+
+		if (!preference.density.keeps(effect, x, y, z))
+			return false;
+
+		int limit = preference.packetsPerSecond == -1 ? defaultLimit : preference.packetsPerSecond;
+		if (limit == 0 || preference.tryAcquire(limit))
+			return true;
+
+		ParticleMetrics.recordDropped(player, 1);
+		return false;
+	}
+
+	private static Preference preferenceOf(Player player) {
+		return PREFERENCES.computeIfAbsent(player.getUniqueId(), uuid -> new Preference());
+	}
+
+	private static final class Preference {
+
+		private volatile ParticleDensity density = ParticleDensity.ALL;
+		private volatile int packetsPerSecond = -1;
+
+		private double tokens = -1;
+		private long lastRefill;
+
+		/**
+		 * Takes a token from the bucket after refilling it for the time that passed.
+		 *
+		 * @param limit the packets per second of the player.
+		 * @return {@code true} if a token was available.
+		 */
+		synchronized boolean tryAcquire(int limit) {
+			long now = System.nanoTime();
+			if (tokens < 0)
+				tokens = limit;
+			else
+				tokens = Math.min(limit, tokens + (now - lastRefill) * limit / 1_000_000_000D);
+			lastRefill = now;
+
+			if (tokens < 1)
+				return false;
+			tokens--;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,358 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.utils.PacketUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the online players, shared by every particle displayed
+ * in the same tick. The players are grouped by their world and stored with their
+ * connection and position, so resolving the recipients of thousands of particles
+ * doesn't have to query the server or resolve the connection of a player again.
+ * <p>
+ * The positions are refreshed once per tick by the first display that needs them.
+ * The players and their connections are only resolved again after a player joined,
+ * quit, respawned or changed their world. Snapshots are only used on the server
+ * thread, on Folia players can only be read by their own region, so snapshots are
+ * never used there.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class RecipientSnapshot {
+
+	private static final Object LOCK = new Object();
+	/**
+	 * Players whose quit event was called in this tick. They are still online while the
+	 * listeners run, so they are skipped explicitly until the next tick resolves the players again.
+	 */
+	private static final Set<Player> QUITTING = ConcurrentHashMap.newKeySet();
+
+	private static volatile boolean enabled;
+	private static volatile boolean invalidated = true;
+	private static volatile long currentTick;
+	private static volatile RecipientSnapshot current;
+	private static SchedulerUtils.Task task;
+	private static Listener listener;
+
+	private final long tick;
+	private final Player[] players;
+	private final Object[] connections;
+	private final World[] worlds;
+	/**
+	 * The index of the first player of every world, followed by the amount of players.
+	 */
+	private final int[] worldStarts;
+	private final double[] xs, ys, zs;
+	private final Map<Player, Integer> indices;
+
+	private RecipientSnapshot(long tick, Player[] players, Object[] connections, World[] worlds, int[] worldStarts, Map<Player, Integer> indices) {
+		this.tick = tick;
+		this.players = players;
+		this.connections = connections;
+		this.worlds = worlds;
+		this.worldStarts = worldStarts;
+		this.indices = indices;
+		this.xs = new double[players.length];
+		this.ys = new double[players.length];
+		this.zs = new double[players.length];
+
+		Location location = new Location(null, 0, 0, 0);
+		for (int i = 0; i < players.length; i++) {
+			players[i].getLocation(location);
+			xs[i] = location.getX();
+			ys[i] = location.getY();
+			zs[i] = location.getZ();
+		}
+	}
+
+	/**
+	 * Checks if snapshots are used.
+	 *
+	 * @return {@code true} if the snapshots are enabled.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the snapshots. Requires {@link SchedulerUtils#init(Plugin)} to be
+	 * called first, as the ticks are counted by a task and the snapshots are invalidated by
+	 * a listener. Has no effect on Folia.
+	 *
+	 * @param enabled whether the recipients should be resolved through snapshots.
+	 */
+	public static void setEnabled(boolean enabled) {
+		synchronized (LOCK) {
+			if (SchedulerUtils.FOLIA || enabled == RecipientSnapshot.enabled)
+				return;
+
+			if (enabled) {
+				Plugin plugin = SchedulerUtils.getPlugin();
+				if (plugin == null)
+					throw new IllegalStateException("SchedulerUtils#init has to be called before enabling the snapshots");
+
+				listener = new InvalidationListener();
+				Bukkit.getPluginManager().registerEvents(listener, plugin);
+				task = SchedulerUtils.runTimer(RecipientSnapshot::nextTick, 1, 1);
+			} else {
+				HandlerList.unregisterAll(listener);
+				task.cancel();
+				listener = null;
+				task = null;
+				current = null;
+				QUITTING.clear();
+			}
+
+			invalidated = true;
+			RecipientSnapshot.enabled = enabled;
+		}
+	}
+
+	private static void nextTick() {
+		currentTick++;
+		if (!QUITTING.isEmpty()) {
+			QUITTING.clear();
+			invalidated = true;
+		}
+	}
+
+	/**
+	 * Forces the players to be resolved again with the next snapshot.
+	 */
+	public static void invalidate() {
+		invalidated = true;
+	}
+
+	/**
+	 * Gets the snapshot of the current tick, taking it if this is the first call in this tick.
+	 * Off the server thread only a valid snapshot of the current tick is returned, as a
+	 * snapshot can't be taken there.
+	 *
+	 * @return the snapshot or {@code null} if the snapshots are disabled or no valid snapshot
+	 * of the current tick exists off the server thread, in which case the players have to be
+	 * resolved without a snapshot.
+	 */
+	public static RecipientSnapshot get() {
+		if (!enabled)
+			return null;
+
+		RecipientSnapshot snapshot = current;
+		long tick = currentTick;
+		if (snapshot != null && snapshot.tick == tick && !invalidated)
+			return snapshot;
+		if (!Bukkit.isPrimaryThread())
+			return null;
+
+		synchronized (LOCK) {
+			if (!enabled)
+				return null;
+
+			snapshot = current;
+			if (snapshot == null || invalidated) {
+				invalidated = false;
+				snapshot = take(tick);
+			} else if (snapshot.tick != tick) {
+				snapshot = new RecipientSnapshot(tick, snapshot.players, snapshot.connections, snapshot.worlds, snapshot.worldStarts, snapshot.indices);
+			}
+			return current = snapshot;
+		}
+	}
+
+	/**
+	 * Gets the cached connection of the given player from the last snapshot.
+	 *
+	 * @param player the {@link Player} whose connection should be looked up.
+	 * @return the cached connection or {@code null} if the player isn't part of the last snapshot.
+	 */
+	public static Object getCachedConnection(Player player) {
+		RecipientSnapshot snapshot = enabled && !invalidated ? current : null;
+		if (snapshot == null)
+			return null;
+
+		Integer index = snapshot.indices.get(player);
+		return index == null ? null : snapshot.connections[index];
+	}
+
+	private static RecipientSnapshot take(long tick) {
+		List<World> worldList = Bukkit.getWorlds();
+		List<Player> playerList = new ArrayList<>();
+		World[] worlds = worldList.toArray(new World[0]);
+		int[] worldStarts = new int[worlds.length + 1];
+		for (int i = 0; i < worlds.length; i++) {
+			worldStarts[i] = playerList.size();
+			for (Player player : worlds[i].getPlayers()) {
+				if (!QUITTING.contains(player))
+					playerList.add(player);
+			}
+		}
+		worldStarts[worlds.length] = playerList.size();
+
+		Player[] players = playerList.toArray(new Player[0]);
+		Object[] connections = new Object[players.length];
+		Map<Player, Integer> indices = new IdentityHashMap<>(players.length);
+		for (int i = 0; i < players.length; i++) {
+			connections[i] = PacketUtils.getConnection(players[i]);
+			indices.put(players[i], i);
+		}
+		return new RecipientSnapshot(tick, players, connections, worlds, worldStarts, indices);
+	}
+
+	/**
+	 * Gets the amount of players in this snapshot.
+	 *
+	 * @return the amount of players.
+	 */
+	public int size() {
+		return players.length;
+	}
+
+	/**
+	 * Gets the index of the given world in this snapshot.
+	 *
+	 * @param world the {@link World} that should be looked up.
+	 * @return the index of the world or {@code -1} if it isn't part of this snapshot.
+	 */
+	public int indexOf(World world) {
+		for (int i = 0; i < worlds.length; i++) {
+			if (worlds[i] == world || worlds[i].equals(world))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the first player of the given world.
+	 *
+	 * @param worldIndex the index of the world returned by {@link #indexOf(World)}.
+	 * @return the index of the first player in the world.
+	 */
+	public int getStart(int worldIndex) {
+		return worldStarts[worldIndex];
+	}
+
+	/**
+	 * Gets the index after the last player of the given world.
+	 *
+	 * @param worldIndex the index of the world returned by {@link #indexOf(World)}.
+	 * @return the exclusive end of the players of the world.
+	 */
+	public int getEnd(int worldIndex) {
+		return worldStarts[worldIndex + 1];
+	}
+
+	/**
+	 * Gets the player at the given index.
+	 *
+	 * @param index the index of the player.
+	 * @return the {@link Player}.
+	 */
+	public Player getPlayer(int index) {
+		return players[index];
+	}
+
+	/**
+	 * Gets the connection of the player at the given index.
+	 *
+	 * @param index the index of the player.
+	 * @return the nms connection or {@code null} if it couldn't be resolved.
+	 */
+	public Object getConnection(int index) {
+		return connections[index];
+	}
+
+	/**
+	 * Gets the x coordinate of the player at the given index.
+	 *
+	 * @param index the index of the player.
+	 * @return the x coordinate at the time of the snapshot.
+	 */
+	public double getX(int index) {
+		return xs[index];
+	}
+
+	/**
+	 * Gets the y coordinate of the player at the given index.
+	 *
+	 * @param index the index of the player.
+	 * @return the y coordinate at the time of the snapshot.
+	 */
+	public double getY(int index) {
+		return ys[index];
+	}
+
+	/**
+	 * Gets the z coordinate of the player at the given index.
+	 *
+	 * @param index the index of the player.
+	 * @return the z coordinate at the time of the snapshot.
+	 */
+	public double getZ(int index) {
+		return zs[index];
+	}
+
+	/**
+	 * Invalidates the snapshot whenever the online players or their worlds change.
+	 */
+	private static final class InvalidationListener implements Listener {
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onJoin(PlayerJoinEvent event) {
+			invalidated = true;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onQuit(PlayerQuitEvent event) {
+			QUITTING.add(event.getPlayer());
+			invalidated = true;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onRespawn(PlayerRespawnEvent event) {
+			invalidated = true;
+		}
+
+		@EventHandler(priority = EventPriority.MONITOR)
+		public void onWorldChange(PlayerChangedWorldEvent event) {
+			invalidated = true;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.audience;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.ReflectionUtils;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Audience} made of the players the server already sends an entity
+ * to. The viewers are read from the {@code seenBy} set of the entity tracker
+ * on mojang mapped servers, from {@code getTrackedBy()} or
+ * {@code getTrackedPlayers()} where the api offers them, and from every
+ * player of the world otherwise. A tracked player also sees its own particles.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class TrackerAudience implements Audience {
+
+	/**
+	 * The api method that returns the players tracking an entity, {@code null} if there is none.
+	 */
+	private static final Method TRACKED_PLAYERS_METHOD;
+
+	private static volatile boolean trackerSupported, trackedPlayersSupported;
+
+	static {
+		boolean supported = ParticleConstants.CRAFT_WORLD_GET_HANDLE_METHOD != null
+				&& ParticleConstants.SERVER_LEVEL_GET_CHUNK_SOURCE_METHOD != null
+				&& ParticleConstants.SERVER_CHUNK_CACHE_CHUNK_MAP_FIELD != null
+				&& ParticleConstants.CHUNK_MAP_ENTITY_MAP_FIELD != null
+				&& ParticleConstants.TRACKED_ENTITY_SEEN_BY_FIELD != null
+				&& ParticleConstants.SERVER_PLAYER_CONNECTION_GET_PLAYER_METHOD != null
+				&& ParticleConstants.ENTITY_GET_BUKKIT_ENTITY_METHOD != null;
+		if (supported) {
+			try {
+				ParticleConstants.SERVER_CHUNK_CACHE_CHUNK_MAP_FIELD.setAccessible(true);
+				ParticleConstants.CHUNK_MAP_ENTITY_MAP_FIELD.setAccessible(true);
+				ParticleConstants.TRACKED_ENTITY_SEEN_BY_FIELD.setAccessible(true);
+			} catch (RuntimeException ex) {
+				ParticleFailures.recordInit("entity tracker audience", ex);
+				supported = false;
+			}
+		}
+		trackerSupported = supported;
+
+		Method method = ReflectionUtils.getMethodOrNull(Entity.class, "getTrackedBy");
+		TRACKED_PLAYERS_METHOD = method != null ? method : ReflectionUtils.getMethodOrNull(Entity.class, "getTrackedPlayers");
+		trackedPlayersSupported = TRACKED_PLAYERS_METHOD != null;
+	}
+
+	private final Entity entity;
+	/**
+	 * The entity map of the chunk map of {@link #world}.
+	 */
+	private Map<?, ?> entityMap;
+	private World world;
+
+	TrackerAudience(Entity entity) {
+		this.entity = entity;
+	}
+
+	@Override
+	public void forEach(Location location, Consumer<? super Player> action) {
+		if (entity instanceof Player && NMSUtils.isInRange((Player) entity, location))
+			action.accept((Player) entity);
+
+		if (trackerSupported) {
+			try {
+				forEachSeenBy(location, action);
+				return;
+			} catch (Exception ex) {
+				trackerSupported = false;
+				ParticleFailures.recordRuntime("entity tracker audience", ex);
+			}
+		}
+
+		if (trackedPlayersSupported) {
+			try {
+				for (Object player : (Collection<?>) TRACKED_PLAYERS_METHOD.invoke(entity)) {
+					if (player != entity && NMSUtils.isInRange((Player) player, location))
+						action.accept((Player) player);
+				}
+				return;
+			} catch (Exception ex) {
+				trackedPlayersSupported = false;
+				ParticleFailures.recordRuntime("tracked players audience", ex);
+			}
+		}
+
+		Audience.WORLD.forEach(location, player -> {
+			if (player != entity)
+				action.accept(player);
+		});
+	}
+
+	private void forEachSeenBy(Location location, Consumer<? super Player> action) throws Exception {
+		World world = entity.getWorld();
+		if (world != this.world) {
+			Object level = ParticleConstants.CRAFT_WORLD_GET_HANDLE_METHOD.invoke(world);
+			Object chunkSource = ParticleConstants.SERVER_LEVEL_GET_CHUNK_SOURCE_METHOD.invoke(level);
+			Object chunkMap = ParticleConstants.SERVER_CHUNK_CACHE_CHUNK_MAP_FIELD.get(chunkSource);
+			this.entityMap = (Map<?, ?>) ParticleConstants.CHUNK_MAP_ENTITY_MAP_FIELD.get(chunkMap);
+			this.world = world;
+		}
+
+		Object trackedEntity = entityMap.get(entity.getEntityId());
+		if (trackedEntity == null)
+			return;
+
+		for (Object connection : (Collection<?>) ParticleConstants.TRACKED_ENTITY_SEEN_BY_FIELD.get(trackedEntity)) {
+			Object handle = ParticleConstants.SERVER_PLAYER_CONNECTION_GET_PLAYER_METHOD.invoke(connection);
+			Object player = ParticleConstants.ENTITY_GET_BUKKIT_ENTITY_METHOD.invoke(handle);
+			if (player instanceof Player && NMSUtils.isInRange((Player) player, location))
+				action.accept((Player) player);
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof TrackerAudience && entity == ((TrackerAudience) object).entity;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(entity);
+	}
+}
@@ -20,9 +20,11 @@ package dev.despical.particle.data;
 
 
 import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.metrics.ParticleMetrics;
 
 /**
- * A class to easier hold data of a particle.
+ * A class to easier hold data of a particle. Implementations are compared by
+ * their values, the assigned {@link ParticleEffect} isn't part of the equality.
  *
  * @author ByteZ
  * @since 10.06.2019
@@ -34,6 +36,14 @@ public abstract class ParticleData {
 	 * assigned to.
 	 */
 	private ParticleEffect effect;
+	/**
+	 * The cached result of {@link #toNMSData()} and the {@link ParticleEffect} it was created for.
+	 */
+	private Cached nmsData;
+	/**
+	 * The cached result of {@link #toBukkitData()} and the {@link ParticleEffect} it was created for.
+	 */
+	private Cached bukkitData;
 
 	/**
 	 * Converts the current {@link ParticleData} instance into nms data. If the current
@@ -44,6 +54,61 @@ public abstract class ParticleData {
 	 */
 	public abstract Object toNMSData();
 
+	/**
+	 * Gets the nms data of this {@link ParticleData}. The result of {@link #toNMSData()}
+	 * is cached until the {@link ParticleEffect} changes, as the data classes are immutable
+	 * and the nms ParticleParams can be shared between packets.
+	 *
+	 * @return the nms data.
+	 */
+	public Object getNMSData() {
+		ParticleEffect effect = this.effect;
+		Cached nmsData = this.nmsData;
+		boolean hit = nmsData != null && nmsData.effect == effect;
+		ParticleMetrics.recordNMSDataLookup(hit);
+		if (!hit) {
+			Object value = toNMSData();
+			if (value == null)
+				return null;
+			// The conversion reads the effect itself, a value converted for a newer effect isn't cached.
+			if (this.effect == effect)
+				this.nmsData = new Cached(effect, value);
+			return value;
+		}
+		return nmsData.value;
+	}
+
+	/**
+	 * Converts the current {@link ParticleData} instance into the data object the
+	 * Bukkit api expects in {@code spawnParticle}. (e.g. {@code Particle.DustOptions})
+	 *
+	 * @return the Bukkit data or {@code null} if the particle doesn't need any.
+	 */
+	protected Object toBukkitData() {
+		return null;
+	}
+
+	/**
+	 * Gets the Bukkit counterpart of this {@link ParticleData}. The result of
+	 * {@link #toBukkitData()} is cached until the {@link ParticleEffect} changes.
+	 *
+	 * @return the Bukkit data or {@code null} if the particle doesn't need any.
+	 */
+	public Object getBukkitData() {
+		ParticleEffect effect = this.effect;
+		Cached bukkitData = this.bukkitData;
+		if (bukkitData == null || bukkitData.effect != effect) {
+			Object value = toBukkitData();
+			if (value == null)
+				return null;
+			// The conversion reads the effect itself, a value converted for a newer effect isn't cached.
+			if (this.effect == effect)
+				this.bukkitData = new Cached(effect, value);
+			return value;
+		}
+		return bukkitData.value;
+	}
+
 	/**
 	 * Gets the {@link ParticleEffect} the current {@link ParticleData} is assigned to.
 	 *
@@ -61,4 +126,20 @@ public abstract class ParticleData {
 	public void setEffect(ParticleEffect effect) {
 		this.effect = effect;
 	}
+
+	/**
+	 * A converted value together with the {@link ParticleEffect} it was converted for. Both are
+	 * replaced at once, so a concurrent {@link #setEffect(ParticleEffect)} can't pair a value
+	 * with the wrong effect.
+	 */
+	private static final class Cached {
+
+		private final ParticleEffect effect;
+		private final Object value;
+
+		private Cached(ParticleEffect effect, Object value) {
+			this.effect = effect;
+			this.value = value;
+		}
+	}
 }
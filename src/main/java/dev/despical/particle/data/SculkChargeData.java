@@ -18,9 +18,8 @@
 
 package dev.despical.particle.data;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
 
 /**
  * This class holds the roll data needed, to display the {@link ParticleEffect#SCULK_CHARGE} particle. This roll data is
@@ -54,6 +53,16 @@ public final class SculkChargeData extends ParticleData {
 		return roll;
 	}
 
+	/**
+	 * Gets the roll as the Bukkit data of the particle.
+	 *
+	 * @return the roll data.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		return roll;
+	}
+
 	/**
 	 * Creates a new SculkChargeParticleOptions instance with the data of the current {@link SculkChargeData} instance.
 	 * <p>
@@ -64,12 +73,18 @@ public final class SculkChargeData extends ParticleData {
 	 */
 	@Override
 	public Object toNMSData() {
-		if (ReflectionUtils.MINECRAFT_VERSION < 19 || getEffect() != ParticleEffect.SCULK_CHARGE)
+		if (getEffect() != ParticleEffect.SCULK_CHARGE)
 			return null;
-		try {
-			return ParticleConstants.PARTICLE_PARAM_SCULK_CHARGE_CONSTRUCTOR.newInstance(getRoll());
-		} catch (Exception ex) {
-			return null;
-		}
+		return VersionAdapters.CURRENT.createSculkChargeParam(getRoll());
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof SculkChargeData && Float.compare(roll, ((SculkChargeData) object).roll) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Float.floatToIntBits(roll);
 	}
 }
@@ -18,9 +18,8 @@
 
 package dev.despical.particle.data;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
 
 /**
  * This class holds the delay data needed, to display the {@link ParticleEffect#SHRIEK} particle. The delay is in ticks.
@@ -54,6 +53,16 @@ public final class ShriekData extends ParticleData {
 		return delay;
 	}
 
+	/**
+	 * Gets the delay as the Bukkit data of the particle.
+	 *
+	 * @return the delay in ticks.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		return delay;
+	}
+
 	/**
 	 * Creates a new ShriekParticleOption instance with the data of the current {@link ShriekData} instance.
 	 * <p>
@@ -64,12 +73,18 @@ public final class ShriekData extends ParticleData {
 	 */
 	@Override
 	public Object toNMSData() {
-		if (ReflectionUtils.MINECRAFT_VERSION < 19 || getEffect() != ParticleEffect.SHRIEK)
-			return null;
-		try {
-			return ParticleConstants.PARTICLE_PARAM_SHRIEK_CONSTRUCTOR.newInstance(getDelay());
-		} catch (Exception ex) {
+		if (getEffect() != ParticleEffect.SHRIEK)
 			return null;
-		}
+		return VersionAdapters.CURRENT.createShriekParam(getDelay());
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof ShriekData && delay == ((ShriekData) object).delay;
+	}
+
+	@Override
+	public int hashCode() {
+		return delay;
 	}
 }
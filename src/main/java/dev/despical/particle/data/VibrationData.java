@@ -18,10 +18,10 @@
 
 package dev.despical.particle.data;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
 import org.bukkit.Location;
+import org.bukkit.Vibration;
 import org.bukkit.entity.Entity;
 
 import java.util.Objects;
@@ -147,6 +147,19 @@ public final class VibrationData extends ParticleData {
 		return ticks;
 	}
 
+	/**
+	 * Creates the Bukkit {@link Vibration} of this data.
+	 *
+	 * @return a new {@link Vibration} with the data of the current {@link VibrationData} instance.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		Vibration.Destination destination = blockDestination != null
+				? new Vibration.Destination.BlockDestination(blockDestination)
+				: new Vibration.Destination.EntityDestination(entitydestination);
+		return new Vibration(start, destination, ticks);
+	}
+
 	/**
 	 * Creates a new VibrationParticleOption instance with the data of
 	 * the current {@link VibrationData} instance.
@@ -159,31 +172,25 @@ public final class VibrationData extends ParticleData {
 	 */
 	@Override
 	public Object toNMSData() {
-		if (ReflectionUtils.MINECRAFT_VERSION < 17 || getEffect() != ParticleEffect.VIBRATION)
-			return null;
-		boolean isBlockDest = blockDestination != null;
-		Object start = ReflectionUtils.createBlockPosition(getStart());
-		try {
-			if (ReflectionUtils.MINECRAFT_VERSION < 19) {
-				Object source;
-				if (isBlockDest) {
-					Object dest = ReflectionUtils.createBlockPosition(getBlockDestination());
-					source = ParticleConstants.BLOCK_POSITION_SOURCE_CONSTRUCTOR.newInstance(dest);
-				} else
-					source = ParticleConstants.ENTITY_POSITION_SOURCE_CONSTRUCTOR.newInstance(getEntityDestination().getEntityId());
-				Object path = ParticleConstants.VIBRATION_PATH_CONSTRUCTOR.newInstance(start, source, getTicks());
-				return ParticleConstants.PARTICLE_PARAM_VIBRATION_CONSTRUCTOR.newInstance(path);
-			} else {
-				Object source;
-				if (isBlockDest) {
-					Object dest = ReflectionUtils.createBlockPosition(getBlockDestination());
-					source = ParticleConstants.BLOCK_POSITION_SOURCE_CONSTRUCTOR.newInstance(dest);
-				} else
-					source = ParticleConstants.ENTITY_POSITION_SOURCE_CONSTRUCTOR.newInstance(ReflectionUtils.getEntityHandle(getEntityDestination()), 0f);
-				return ParticleConstants.PARTICLE_PARAM_VIBRATION_CONSTRUCTOR.newInstance(source, getTicks());
-			}
-		} catch (Exception ex) {
+		if (getEffect() != ParticleEffect.VIBRATION)
 			return null;
-		}
+		return VersionAdapters.CURRENT.createVibrationParam(this);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object)
+			return true;
+		if (!(object instanceof VibrationData))
+			return false;
+		VibrationData data = (VibrationData) object;
+		return ticks == data.ticks && Objects.equals(start, data.start)
+				&& Objects.equals(blockDestination, data.blockDestination)
+				&& Objects.equals(entitydestination, data.entitydestination);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(start, blockDestination, entitydestination, ticks);
 	}
 }
@@ -18,10 +18,10 @@
 
 package dev.despical.particle.data.color;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
 import dev.despical.particle.PropertyType;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
+import org.bukkit.Particle;
 
 import java.awt.*;
 
@@ -114,6 +114,18 @@ public final class DustColorTransitionData extends DustData {
 		return fadeBlue / 255f;
 	}
 
+	/**
+	 * Creates the {@link Particle.DustTransition} of this transition data.
+	 *
+	 * @return the Bukkit data or {@code null} if the effect isn't {@link ParticleEffect#DUST_COLOR_TRANSITION}.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		if (getEffect() != ParticleEffect.DUST_COLOR_TRANSITION)
+			return null;
+		return new Particle.DustTransition(toBukkitColor(), org.bukkit.Color.fromRGB(fadeRed, fadeGreen, fadeBlue), getSize());
+	}
+
 	/**
 	 * Creates a new instance of the nms counterpart
 	 * of this class.
@@ -126,14 +138,21 @@ public final class DustColorTransitionData extends DustData {
 	 */
 	@Override
 	public Object toNMSData() {
-		if (ReflectionUtils.MINECRAFT_VERSION < 17 || getEffect() != ParticleEffect.DUST_COLOR_TRANSITION)
+		if (getEffect() != ParticleEffect.DUST_COLOR_TRANSITION)
 			return null;
-		Object fadeStart = ReflectionUtils.createVector3fa(getRed(), getGreen(), getBlue());
-		Object fadeEnd = ReflectionUtils.createVector3fa(getFadeRed(), getFadeGreen(), getFadeBlue());
-		try {
-			return ParticleConstants.PARTICLE_PARAM_DUST_COLOR_TRANSITION_CONSTRUCTOR.newInstance(fadeStart, fadeEnd, getSize());
-		} catch (Exception ex) {
-			return null;
-		}
+		return VersionAdapters.CURRENT.createDustTransitionParam(getRed(), getGreen(), getBlue(), getFadeRed(), getFadeGreen(), getFadeBlue(), getSize());
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (!super.equals(object))
+			return false;
+		DustColorTransitionData data = (DustColorTransitionData) object;
+		return fadeRed == data.fadeRed && fadeGreen == data.fadeGreen && fadeBlue == data.fadeBlue;
+	}
+
+	@Override
+	public int hashCode() {
+		return ((super.hashCode() * 31 + fadeRed) * 31 + fadeGreen) * 31 + fadeBlue;
 	}
 }
@@ -18,10 +18,11 @@
 
 package dev.despical.particle.data.color;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
 import dev.despical.particle.PropertyType;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.utils.PacketUtils;
+import dev.despical.particle.version.VersionAdapters;
+import org.bukkit.Particle;
 
 import java.awt.*;
 
@@ -84,6 +85,23 @@ public class DustData extends RegularColor {
 		return size;
 	}
 
+	/**
+	 * Creates the {@link Particle.DustOptions} of this dust data.
+	 *
+	 * @return the Bukkit data or {@code null} if the effect isn't a dust particle
+	 * or the server is older than 1.13, where the color is encoded in the offsets.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		if (!PacketUtils.supports(13))
+			return null;
+		if (getEffect() == ParticleEffect.REDSTONE)
+			return new Particle.DustOptions(toBukkitColor(), getSize());
+		if (getEffect() == ParticleEffect.DUST_COLOR_TRANSITION)
+			return new Particle.DustTransition(toBukkitColor(), toBukkitColor(), getSize());
+		return null;
+	}
+
 	/**
 	 * Converts the underlying {@link DustData} into it's
 	 * nms counterparts. The return type is dependent on
@@ -100,19 +118,18 @@ public class DustData extends RegularColor {
 	 */
 	@Override
 	public Object toNMSData() {
-		try {
-			if (ReflectionUtils.MINECRAFT_VERSION < 13 || getEffect() == null || !getEffect().hasProperty(PropertyType.DUST))
-				return new int[0];
-			else if (ReflectionUtils.MINECRAFT_VERSION < 17 && getEffect() == ParticleEffect.REDSTONE)
-				return ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(getRed(), getGreen(), getBlue(), getSize());
-			else if (ReflectionUtils.MINECRAFT_VERSION >= 17) {
-				Object colorVector = ReflectionUtils.createVector3fa(getRed(), getGreen(), getBlue());
-				return getEffect() == ParticleEffect.REDSTONE
-						? ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(colorVector, getSize())
-						: ParticleConstants.PARTICLE_PARAM_DUST_COLOR_TRANSITION_CONSTRUCTOR.newInstance(colorVector, colorVector, getSize());
-			}
-		} catch (Exception ignored) {
-		}
-		return null;
+		if (getEffect() == null || !getEffect().hasProperty(PropertyType.DUST))
+			return new int[0];
+		return VersionAdapters.CURRENT.createDustParam(getEffect(), getRed(), getGreen(), getBlue(), getSize());
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return super.equals(object) && Float.compare(size, ((DustData) object).size) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() * 31 + Float.floatToIntBits(size);
 	}
-}
\ No newline at end of file
+}
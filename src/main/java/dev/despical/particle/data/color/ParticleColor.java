@@ -93,4 +93,26 @@ public abstract class ParticleColor extends ParticleData {
 	public float getBlue() {
 		return blue;
 	}
+
+	/**
+	 * Checks if the given object is a color of the same type with the same values.
+	 * The assigned {@link dev.despical.particle.ParticleEffect} isn't compared.
+	 *
+	 * @param object the object to compare.
+	 * @return {@code true} if both colors are equal.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object)
+			return true;
+		if (object == null || getClass() != object.getClass())
+			return false;
+		ParticleColor color = (ParticleColor) object;
+		return red == color.red && green == color.green && blue == color.blue;
+	}
+
+	@Override
+	public int hashCode() {
+		return (getClass().hashCode() * 31 + red) * 961 + green * 31 + blue;
+	}
 }
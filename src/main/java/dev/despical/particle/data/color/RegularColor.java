@@ -18,12 +18,13 @@
 
 package dev.despical.particle.data.color;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.ParticleEffect;
 import dev.despical.particle.PropertyType;
 import dev.despical.particle.data.ParticleData;
 import dev.despical.particle.utils.MathUtils;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.utils.PacketUtils;
+import dev.despical.particle.version.VersionAdapters;
+import org.bukkit.Particle;
 
 import java.awt.*;
 
@@ -129,6 +130,34 @@ public class RegularColor extends ParticleColor {
 		return super.getBlue() / 255f;
 	}
 
+	/**
+	 * Creates the Bukkit {@link org.bukkit.Color} of this color.
+	 *
+	 * @return the Bukkit {@link org.bukkit.Color} with the same rgb values.
+	 */
+	protected org.bukkit.Color toBukkitColor() {
+		return org.bukkit.Color.fromRGB((int) super.getRed(), (int) super.getGreen(), (int) super.getBlue());
+	}
+
+	/**
+	 * Creates the {@link Particle.DustOptions} of this color if it's used by a
+	 * {@link PropertyType#DUST} particle. Other colorable particles get their
+	 * color through the offset values.
+	 *
+	 * @return the Bukkit data or {@code null} if the particle isn't a dust particle
+	 * or the server is older than 1.13, where the color is encoded in the offsets.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		if (!PacketUtils.supports(13))
+			return null;
+		if (getEffect() == ParticleEffect.REDSTONE)
+			return new Particle.DustOptions(toBukkitColor(), 1f);
+		if (getEffect() == ParticleEffect.DUST_COLOR_TRANSITION)
+			return new Particle.DustTransition(toBukkitColor(), toBukkitColor(), 1f);
+		return null;
+	}
+
 	/**
 	 * Converts the current {@link ParticleData} instance into nms data. If the current
 	 * minecraft version was released before 1.13 an int array should be returned. If the
@@ -140,20 +169,9 @@ public class RegularColor extends ParticleColor {
 	 */
 	@Override
 	public Object toNMSData() {
-		if (ReflectionUtils.MINECRAFT_VERSION < 13 || (getEffect() != ParticleEffect.REDSTONE && getEffect() != ParticleEffect.DUST_COLOR_TRANSITION))
+		if (getEffect() != ParticleEffect.REDSTONE && getEffect() != ParticleEffect.DUST_COLOR_TRANSITION)
 			return new int[0];
-		try {
-			if (getEffect() == ParticleEffect.REDSTONE)
-				return ReflectionUtils.MINECRAFT_VERSION < 17
-						? ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(getRed(), getGreen(), getBlue(), 1f)
-						: ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(ReflectionUtils.createVector3fa(getRed(), getGreen(), getBlue()), 1f);
-			if (ReflectionUtils.MINECRAFT_VERSION < 17)
-				return null;
-			Object colorVector = ReflectionUtils.createVector3fa(getRed(), getGreen(), getBlue());
-			return ParticleConstants.PARTICLE_PARAM_DUST_COLOR_TRANSITION_CONSTRUCTOR.newInstance(colorVector, colorVector, 1f);
-		} catch (Exception ex) {
-			return null;
-		}
+		return VersionAdapters.CURRENT.createDustParam(getEffect(), getRed(), getGreen(), getBlue(), 1f);
 	}
 
 }
@@ -18,13 +18,12 @@
 
 package dev.despical.particle.data.texture;
 
-import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.PropertyType;
 import dev.despical.particle.data.ParticleData;
 import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
 import org.bukkit.Material;
-
-import java.lang.reflect.Field;
+import org.bukkit.material.MaterialData;
 
 /**
  * An implementation of the {@link ParticleTexture} object to support block texture particles.
@@ -65,16 +64,23 @@ public final class BlockTexture extends ParticleTexture {
 	public Object toNMSData() {
 		if (getMaterial() == null || !getMaterial().isBlock() || getEffect() == null || !getEffect().hasProperty(PropertyType.REQUIRES_BLOCK))
 			return null;
-		if (ReflectionUtils.MINECRAFT_VERSION < 13)
-			return super.toNMSData();
-		Object block = getBlockData(getMaterial());
-		if (block == null)
-			return null;
-		try {
-			return ParticleConstants.PARTICLE_PARAM_BLOCK_CONSTRUCTOR.newInstance(getEffect().getNMSObject(), block);
-		} catch (Exception ex) {
+		return VersionAdapters.CURRENT.createBlockParam(this);
+	}
+
+	/**
+	 * Creates the Bukkit block data of this texture. Since 1.13 this is a
+	 * {@link org.bukkit.block.data.BlockData}, before it's a {@link MaterialData}.
+	 *
+	 * @return the Bukkit data or {@code null} if the material isn't a block.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		if (getMaterial() == null || !getMaterial().isBlock())
 			return null;
-		}
+		if (ReflectionUtils.MINECRAFT_VERSION < 13)
+			//noinspection deprecation
+			return new MaterialData(getMaterial(), getData());
+		return getMaterial().createBlockData();
 	}
 
 	/**
@@ -84,20 +90,7 @@ public final class BlockTexture extends ParticleTexture {
 	 * @return the block data of the specified {@link Material} or {@code null} when an error occurs.
 	 */
 	public Object getBlockData(Material material) {
-		try {
-			Object block;
-			if (ReflectionUtils.MINECRAFT_VERSION < 17) {
-				Field blockField = ReflectionUtils.getFieldOrNull(ParticleConstants.BLOCKS_CLASS, material.name(), false);
-				if (blockField == null)
-					return null;
-				block = ReflectionUtils.readField(blockField, null);
-			} else
-				block = ParticleConstants.REGISTRY_GET_METHOD.invoke(ParticleConstants.BLOCK_REGISTRY, ReflectionUtils.getMinecraftKey(material.name().toLowerCase()));
-
-			return ParticleConstants.BLOCK_GET_BLOCK_DATA_METHOD.invoke(block);
-		} catch (Exception ex) {
-			return null;
-		}
+		return VersionAdapters.CURRENT.getBlockData(material);
 	}
 
 }
@@ -21,9 +21,11 @@ package dev.despical.particle.data.texture;
 import dev.despical.particle.ParticleConstants;
 import dev.despical.particle.PropertyType;
 import dev.despical.particle.data.ParticleData;
-import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.version.VersionAdapters;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Objects;
+
 /**
  * An implementation of the {@link ParticleTexture} object to support item texture particles.
  *
@@ -77,15 +79,17 @@ public final class ItemTexture extends ParticleTexture {
 	public Object toNMSData() {
 		if (getMaterial() == null || getData() < 0 || getEffect() == null || !getEffect().hasProperty(PropertyType.REQUIRES_ITEM))
 			return null;
-		if (ReflectionUtils.MINECRAFT_VERSION < 13)
-			return super.toNMSData();
-		else {
-			try {
-				return ParticleConstants.PARTICLE_PARAM_ITEM_CONSTRUCTOR.newInstance(getEffect().getNMSObject(), toNMSItemStack(getItemStack()));
-			} catch (Exception ex) {
-				return null;
-			}
-		}
+		return VersionAdapters.CURRENT.createItemParam(this);
+	}
+
+	/**
+	 * Gets the {@link ItemStack} as the Bukkit data of the particle.
+	 *
+	 * @return the assigned {@link ItemStack}.
+	 */
+	@Override
+	protected Object toBukkitData() {
+		return itemStack;
 	}
 
 	/**
@@ -97,4 +101,13 @@ public final class ItemTexture extends ParticleTexture {
 		return itemStack;
 	}
 
+	@Override
+	public boolean equals(Object object) {
+		return super.equals(object) && Objects.equals(itemStack, ((ItemTexture) object).itemStack);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() * 31 + Objects.hashCode(itemStack);
+	}
 }
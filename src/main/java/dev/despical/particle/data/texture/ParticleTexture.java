@@ -23,6 +23,8 @@ import dev.despical.particle.PropertyType;
 import dev.despical.particle.data.ParticleData;
 import org.bukkit.Material;
 
+import java.util.Objects;
+
 /**
  * An implementation of {@link ParticleData} to support particles that require a texture
  * to function properly.
@@ -81,6 +83,16 @@ public class ParticleTexture extends ParticleData {
 	 */
 	@Override
 	public Object toNMSData() {
+		return toLegacyData();
+	}
+
+	/**
+	 * Converts the current {@link ParticleTexture} into the int array that is
+	 * used by the client before 1.13.
+	 *
+	 * @return the legacy texture data.
+	 */
+	public int[] toLegacyData() {
 		//noinspection deprecation
 		int id = getMaterial().getId();
 		byte data = getData();
@@ -88,4 +100,26 @@ public class ParticleTexture extends ParticleData {
 				? new int[]{id, data}
 				: new int[]{id | data << 12};
 	}
+
+	/**
+	 * Checks if the given object is a texture of the same type with the same values.
+	 * The assigned {@link ParticleEffect} isn't compared.
+	 *
+	 * @param object the object to compare.
+	 * @return {@code true} if both textures are equal.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object)
+			return true;
+		if (object == null || getClass() != object.getClass())
+			return false;
+		ParticleTexture texture = (ParticleTexture) object;
+		return material == texture.material && data == texture.data;
+	}
+
+	@Override
+	public int hashCode() {
+		return (getClass().hashCode() * 31 + Objects.hashCode(material)) * 31 + data;
+	}
 }
@@ -0,0 +1,194 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.decoration;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.audience.ParticlePreferences;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.PacketUtils;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The decorations of a single chunk. The nms packets of the decorations, or
+ * the {@code spawnParticle} arguments of the palette on the Bukkit api path,
+ * are only built while the chunk is resident and released again afterwards.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class ChunkDecorations {
+
+	private final List<ParticlePacket> palette = new ArrayList<>();
+	private byte[] indices = new byte[16];
+	private double[] positions = new double[16 * 3];
+	private int count;
+
+	/**
+	 * The prebuilt nms packet of every decoration, {@code null} while the chunk isn't resident.
+	 */
+	private Object[] built;
+	/**
+	 * The prebuilt packets without the decorations whose packet couldn't be created.
+	 */
+	private Object[] sendable;
+	/**
+	 * The palette and its converted {@code spawnParticle} arguments on the Bukkit api path,
+	 * {@code null} while the chunk isn't resident.
+	 */
+	private ParticlePacket[] paletteArray;
+	private NMSUtils.BukkitParticle[] prepared;
+	private long idleTicks;
+	/**
+	 * Whether a replay of the chunk is queued on its region on Folia.
+	 */
+	private boolean pending;
+
+	synchronized void add(ParticlePacket packet, double x, double y, double z) {
+		int index = palette.indexOf(packet);
+		if (index == -1) {
+			if (palette.size() == 256)
+				throw new IllegalStateException("A chunk can't hold more than 256 different packets");
+			index = palette.size();
+			palette.add(packet);
+		}
+
+		if (count == indices.length) {
+			indices = Arrays.copyOf(indices, count * 2);
+			positions = Arrays.copyOf(positions, count * 6);
+		}
+
+		indices[count] = (byte) index;
+		positions[count * 3] = x;
+		positions[count * 3 + 1] = y;
+		positions[count * 3 + 2] = z;
+		count++;
+		release();
+	}
+
+	/**
+	 * Marks a replay as queued on the region of the chunk.
+	 *
+	 * @return {@code false} if a replay is already queued and didn't run yet.
+	 */
+	synchronized boolean trySchedule() {
+		if (pending)
+			return false;
+		pending = true;
+		return true;
+	}
+
+	/**
+	 * Marks the queued replay as running, so the next one can be queued.
+	 */
+	synchronized void unschedule() {
+		pending = false;
+	}
+
+	synchronized int size() {
+		return count;
+	}
+
+	synchronized boolean isBuilt() {
+		return built != null || prepared != null;
+	}
+
+	/**
+	 * Releases the prebuilt packets if the chunk was idle for the given amount of ticks.
+	 *
+	 * @return {@code true} if the packets were released.
+	 */
+	synchronized boolean idle(long ticks, long releaseAfter) {
+		if (!isBuilt() || (idleTicks += ticks) < releaseAfter)
+			return false;
+
+		release();
+		return true;
+	}
+
+	synchronized void release() {
+		built = sendable = null;
+		paletteArray = null;
+		prepared = null;
+		idleTicks = 0;
+	}
+
+	/**
+	 * Displays every decoration of the chunk to the given players, building the packets if needed.
+	 *
+	 * @param audience an {@link Audience} of the viewers, which must not change until the particles are displayed.
+	 */
+	synchronized void replay(World world, List<Player> viewers, Audience audience) {
+		idleTicks = 0;
+		if (ParticleEffect.USE_API) {
+			if (prepared == null) {
+				paletteArray = palette.toArray(new ParticlePacket[0]);
+				prepared = NMSUtils.prepare(paletteArray);
+			}
+
+			Location origin = new Location(world, positions[0], positions[1], positions[2]);
+			NMSUtils.display(paletteArray, prepared, indices, positions, count, origin, audience);
+			return;
+		}
+
+		if (built == null)
+			build(world);
+
+		boolean filtered = ParticlePreferences.isActive();
+		for (Player player : viewers) {
+			Object[] packets = filtered ? filter(player) : sendable;
+			if (packets.length != 0)
+				PacketUtils.sendPacket(player, packets);
+		}
+	}
+
+	private void build(World world) {
+		built = new Object[count];
+		List<Object> packets = new ArrayList<>(count);
+		Location location = new Location(world, 0, 0, 0);
+		for (int i = 0; i < count; i++) {
+			location.setX(positions[i * 3]);
+			location.setY(positions[i * 3 + 1]);
+			location.setZ(positions[i * 3 + 2]);
+
+			Object packet = built[i] = palette.get(indices[i] & 0xFF).createPacket(location);
+			if (packet != null)
+				packets.add(packet);
+		}
+		sendable = packets.toArray();
+	}
+
+	private Object[] filter(Player player) {
+		List<Object> packets = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Object packet = built[i];
+			if (packet != null && ParticlePreferences.accept(player, palette.get(indices[i] & 0xFF).getParticle(), positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]))
+				packets.add(packet);
+		}
+		return packets.toArray();
+	}
+}
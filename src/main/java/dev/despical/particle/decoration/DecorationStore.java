@@ -0,0 +1,329 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.decoration;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A store of static particle decorations, e.g. the particles of a lobby, which
+ * are replayed periodically. Decorations are grouped by their chunk, and every
+ * chunk is only replayed to the players whose view distance covers it.
+ * <p>
+ * The nms packets of a chunk are built once when it becomes resident, so a replay
+ * only sends the prebuilt packets. They are released when the chunk unloads or no
+ * player covered it for a while, which keeps the memory bounded by the chunks that
+ * are actually viewed. On the Bukkit api path the {@code spawnParticle} arguments
+ * of every packet are converted once instead, and the points are displayed through
+ * {@link dev.despical.particle.utils.NMSUtils}.
+ * <p>
+ * On Folia the replay timer runs on the global region, which can't read players.
+ * Every loaded chunk is handed to the region that owns it instead, which replays
+ * it to the players it owns.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class DecorationStore {
+
+	private final Map<UUID, Map<Long, ChunkDecorations>> worlds = new ConcurrentHashMap<>();
+	/**
+	 * The viewers of the chunk that is replayed, reused for every chunk. Not used on Folia.
+	 */
+	private final List<Player> viewers = new ArrayList<>();
+	private final Audience viewerAudience = Audience.of(viewers);
+	private volatile int viewDistance = -1;
+	private volatile long releaseAfter = 600;
+	private long period = 5;
+	private SchedulerUtils.Task task;
+
+	/**
+	 * Adds a decoration at the given {@link Location}.
+	 *
+	 * @param location the {@link Location} of the decoration.
+	 * @param packet   the {@link ParticlePacket} the decoration is displayed with.
+	 * @return this store.
+	 */
+	public DecorationStore add(Location location, ParticlePacket packet) {
+		World world = Objects.requireNonNull(location.getWorld(), "The location has no world");
+		return add(world, location.getX(), location.getY(), location.getZ(), packet);
+	}
+
+	/**
+	 * Adds a decoration at the given position. A chunk can hold decorations of up to 256 different packets.
+	 *
+	 * @param world  the {@link World} of the decoration.
+	 * @param x      the x coordinate of the decoration.
+	 * @param y      the y coordinate of the decoration.
+	 * @param z      the z coordinate of the decoration.
+	 * @param packet the {@link ParticlePacket} the decoration is displayed with.
+	 * @return this store.
+	 */
+	public DecorationStore add(World world, double x, double y, double z, ParticlePacket packet) {
+		Objects.requireNonNull(packet);
+		long key = getChunkKey((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+		worlds.computeIfAbsent(world.getUID(), uid -> new ConcurrentHashMap<>())
+			.computeIfAbsent(key, chunk -> new ChunkDecorations())
+			.add(packet, x, y, z);
+		return this;
+	}
+
+	/**
+	 * Removes every decoration of the given chunk.
+	 *
+	 * @param world  the {@link World} of the chunk.
+	 * @param chunkX the x coordinate of the chunk.
+	 * @param chunkZ the z coordinate of the chunk.
+	 * @return {@code true} if the chunk had any decoration.
+	 */
+	public boolean removeChunk(World world, int chunkX, int chunkZ) {
+		Map<Long, ChunkDecorations> chunks = worlds.get(world.getUID());
+		return chunks != null && chunks.remove(getChunkKey(chunkX, chunkZ)) != null;
+	}
+
+	/**
+	 * Removes every decoration of the given {@link World}.
+	 *
+	 * @param world the {@link World} that should be cleared.
+	 */
+	public void clear(World world) {
+		worlds.remove(world.getUID());
+	}
+
+	/**
+	 * Removes every decoration.
+	 */
+	public void clear() {
+		worlds.clear();
+	}
+
+	/**
+	 * Gets the amount of decorations in this store.
+	 *
+	 * @return the amount of decorations.
+	 */
+	public int getDecorationCount() {
+		int count = 0;
+		for (Map<Long, ChunkDecorations> chunks : worlds.values()) {
+			for (ChunkDecorations chunk : chunks.values())
+				count += chunk.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the amount of chunks whose packets are currently built.
+	 *
+	 * @return the amount of resident chunks.
+	 */
+	public int getResidentChunks() {
+		int count = 0;
+		for (Map<Long, ChunkDecorations> chunks : worlds.values()) {
+			for (ChunkDecorations chunk : chunks.values()) {
+				if (chunk.isBuilt())
+					count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Sets the view distance in chunks the decorations are replayed in.
+	 *
+	 * @param viewDistance the view distance or {@code -1} to use the view distance of the world.
+	 * @return this store.
+	 */
+	public DecorationStore viewDistance(int viewDistance) {
+		this.viewDistance = viewDistance;
+		return this;
+	}
+
+	/**
+	 * Sets after how many ticks without any viewer the prebuilt packets of a chunk are released.
+	 *
+	 * @param releaseAfter the amount of ticks.
+	 * @return this store.
+	 */
+	public DecorationStore releaseAfter(long releaseAfter) {
+		this.releaseAfter = releaseAfter;
+		return this;
+	}
+
+	/**
+	 * Sets the interval the decorations are replayed in. Takes effect on the next start.
+	 *
+	 * @param period the interval in ticks.
+	 * @return this store.
+	 */
+	public synchronized DecorationStore period(long period) {
+		if (period < 1)
+			throw new IllegalArgumentException("The period must be at least one tick");
+		this.period = period;
+		return this;
+	}
+
+	/**
+	 * Starts replaying the decorations.
+	 *
+	 * @return this store.
+	 */
+	public synchronized DecorationStore start() {
+		if (task == null)
+			task = SchedulerUtils.runTimer(this::replay, 1, period);
+		return this;
+	}
+
+	/**
+	 * Stops replaying the decorations and releases every prebuilt packet.
+	 */
+	public synchronized void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+
+		for (Map<Long, ChunkDecorations> chunks : worlds.values())
+			chunks.values().forEach(ChunkDecorations::release);
+	}
+
+	/**
+	 * Checks if the decorations are replayed.
+	 *
+	 * @return {@code true} if the store was started.
+	 */
+	public synchronized boolean isRunning() {
+		return task != null;
+	}
+
+	private synchronized void replay() {
+		boolean regionized = SchedulerUtils.isRegionized();
+		for (Map.Entry<UUID, Map<Long, ChunkDecorations>> entry : worlds.entrySet()) {
+			World world = Bukkit.getWorld(entry.getKey());
+			if (world == null) {
+				entry.getValue().values().forEach(ChunkDecorations::release);
+				continue;
+			}
+
+			if (regionized) {
+				scheduleRegions(world, entry.getValue());
+				continue;
+			}
+
+			List<Player> players = world.getPlayers();
+			int[] playerChunks = new int[players.size() * 2];
+			for (int i = 0; i < players.size(); i++) {
+				Location location = players.get(i).getLocation();
+				playerChunks[i * 2] = location.getBlockX() >> 4;
+				playerChunks[i * 2 + 1] = location.getBlockZ() >> 4;
+			}
+
+			int distance = viewDistance == -1 ? getViewDistance(world) : viewDistance;
+			for (Map.Entry<Long, ChunkDecorations> chunkEntry : entry.getValue().entrySet()) {
+				long key = chunkEntry.getKey();
+				int chunkX = (int) (key >> 32), chunkZ = (int) key;
+				ChunkDecorations chunk = chunkEntry.getValue();
+				if (!world.isChunkLoaded(chunkX, chunkZ)) {
+					chunk.release();
+					continue;
+				}
+
+				viewers.clear();
+				for (int i = 0; i < players.size(); i++) {
+					if (Math.abs(playerChunks[i * 2] - chunkX) <= distance && Math.abs(playerChunks[i * 2 + 1] - chunkZ) <= distance)
+						viewers.add(players.get(i));
+				}
+
+				if (viewers.isEmpty())
+					chunk.idle(period, releaseAfter);
+				else
+					chunk.replay(world, viewers, viewerAudience);
+			}
+		}
+		viewers.clear();
+	}
+
+	/**
+	 * Hands every loaded chunk to the region that owns it. The timer runs on the global
+	 * region on Folia, which can't read players, so the viewers of a chunk are resolved
+	 * by its own region from the players it owns.
+	 */
+	private void scheduleRegions(World world, Map<Long, ChunkDecorations> chunks) {
+		int distance = viewDistance == -1 ? getViewDistance(world) : viewDistance;
+		long period = this.period, releaseAfter = this.releaseAfter;
+		for (Map.Entry<Long, ChunkDecorations> chunkEntry : chunks.entrySet()) {
+			long key = chunkEntry.getKey();
+			int chunkX = (int) (key >> 32), chunkZ = (int) key;
+			ChunkDecorations chunk = chunkEntry.getValue();
+			if (!world.isChunkLoaded(chunkX, chunkZ)) {
+				chunk.release();
+				continue;
+			}
+
+			// A region that fell behind doesn't get a second replay of the same chunk queued.
+			if (chunk.trySchedule())
+				SchedulerUtils.runAt(new Location(world, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8), () -> replayRegion(world, chunkX, chunkZ, chunk, distance, period, releaseAfter));
+		}
+	}
+
+	private static void replayRegion(World world, int chunkX, int chunkZ, ChunkDecorations chunk, int distance, long period, long releaseAfter) {
+		chunk.unschedule();
+
+		List<Player> viewers = new ArrayList<>();
+		Location location = new Location(world, 0, 0, 0);
+		for (Player player : world.getPlayers()) {
+			if (!SchedulerUtils.isOwnedByCurrentRegion(player))
+				continue;
+
+			player.getLocation(location);
+			if (Math.abs((location.getBlockX() >> 4) - chunkX) <= distance && Math.abs((location.getBlockZ() >> 4) - chunkZ) <= distance)
+				viewers.add(player);
+		}
+
+		if (viewers.isEmpty())
+			chunk.idle(period, releaseAfter);
+		else
+			chunk.replay(world, viewers, Audience.of(viewers));
+	}
+
+	private static int getViewDistance(World world) {
+		try {
+			return world.getViewDistance();
+		} catch (NoSuchMethodError ignored) {
+			// Worlds only have their own view distance since 1.14, older servers use 10 by default.
+			return 10;
+		}
+	}
+
+	private static long getChunkKey(int chunkX, int chunkZ) {
+		return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+	}
+}
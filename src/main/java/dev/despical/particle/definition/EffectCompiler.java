@@ -0,0 +1,308 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.definition;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.animation.Interpolation;
+import dev.despical.particle.animation.Timeline;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustColorTransitionData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.color.NoteColor;
+import dev.despical.particle.data.color.RegularColor;
+import dev.despical.particle.data.texture.BlockTexture;
+import dev.despical.particle.data.texture.ItemTexture;
+import dev.despical.particle.utils.MathUtils;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles the parsed tree of a single effect definition into a
+ * {@link PreparedEmitter}. A definition looks like this in YAML:
+ * <pre>
+ * effect: REDSTONE
+ * data:
+ *   color: "#ff8800"
+ *   size: 1.5
+ * offset: [0, 0, 0]
+ * speed: 0
+ * amount: 1
+ * shape:
+ *   type: circle
+ *   radius: 1.5
+ *   points: 32
+ * animation:
+ *   loop: true
+ *   keyframes:
+ *     - {tick: 0, color: "#ff0000", interpolation: ease_in_out}
+ *     - {tick: 20, color: "#0000ff"}
+ * audience:
+ *   radius: 32
+ *   permission: cosmetics.view
+ * </pre>
+ * Only {@code effect} is required.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class EffectCompiler {
+
+	private EffectCompiler() {
+	}
+
+	/**
+	 * Compiles a definition.
+	 *
+	 * @param name       the name of the definition.
+	 * @param hash       the content hash of the definition.
+	 * @param definition the parsed definition.
+	 * @return the new {@link PreparedEmitter}.
+	 * @throws IllegalArgumentException if the definition is invalid.
+	 */
+	static PreparedEmitter compile(String name, String hash, Map<?, ?> definition) {
+		ParticleEffect effect = effect(string(definition.get("effect"), "effect"));
+		double[] offset = vector(definition.get("offset"), "offset");
+		float speed = (float) number(definition.get("speed"), 1, "speed");
+		int amount = (int) number(definition.get("amount"), 0, "amount");
+
+		ParticleData data = data(effect, map(definition.get("data"), "data"));
+		ParticlePacket packet = new ParticlePacket(effect, (float) offset[0], (float) offset[1], (float) offset[2], speed, amount, data);
+		double[] points = shape(map(definition.get("shape"), "shape"));
+		Timeline timeline = timeline(effect, offset, speed, map(definition.get("animation"), "animation"));
+		Audience audience = audience(definition.get("audience"));
+		return new PreparedEmitter(name, hash, packet, points, timeline, audience);
+	}
+
+	private static ParticleEffect effect(String name) {
+		try {
+			return ParticleEffect.valueOf(name.toUpperCase(Locale.ENGLISH));
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Unknown effect: " + name);
+		}
+	}
+
+	private static ParticleData data(ParticleEffect effect, Map<?, ?> section) {
+		if (section == null)
+			return null;
+
+		ParticleData data;
+		if (section.containsKey("block")) {
+			data = new BlockTexture(material(section.get("block"), "data.block"));
+		} else if (section.containsKey("item")) {
+			data = new ItemTexture(new ItemStack(material(section.get("item"), "data.item")));
+		} else if (section.containsKey("note")) {
+			data = new NoteColor((int) number(section.get("note"), 0, "data.note"));
+		} else if (section.containsKey("color")) {
+			int[] color = color(section.get("color"), "data.color");
+			float size = (float) number(section.get("size"), 1, "data.size");
+			if (effect == ParticleEffect.DUST_COLOR_TRANSITION) {
+				int[] fade = color(section.get("fade"), "data.fade");
+				data = new DustColorTransitionData(color[0], color[1], color[2], fade[0], fade[1], fade[2], size);
+			} else if (effect.hasProperty(PropertyType.DUST)) {
+				data = new DustData(color[0], color[1], color[2], size);
+			} else {
+				data = new RegularColor(color[0], color[1], color[2]);
+			}
+		} else {
+			throw new IllegalArgumentException("The data section needs one of block, item, note or color");
+		}
+
+		data.setEffect(effect);
+		if (!effect.isCorrectData(data))
+			throw new IllegalArgumentException("The data section doesn't fit the effect " + effect);
+		return data;
+	}
+
+	private static double[] shape(Map<?, ?> section) {
+		if (section == null)
+			return new double[3];
+
+		String type = string(section.get("type"), "shape.type").toLowerCase(Locale.ENGLISH);
+		int count = (int) number(section.get("points"), 20, "shape.points");
+		if (count < 1)
+			throw new IllegalArgumentException("A shape needs at least one point");
+
+		double radius = number(section.get("radius"), 1, "shape.radius");
+		double[] points = new double[count * 3];
+		switch (type) {
+			case "point":
+				return new double[3];
+			case "circle":
+				for (int i = 0; i < count; i++) {
+					double angle = 2 * Math.PI * i / count;
+					points[i * 3] = Math.cos(angle) * radius;
+					points[i * 3 + 2] = Math.sin(angle) * radius;
+				}
+				return points;
+			case "sphere":
+				MathUtils.goldenSphere(count, radius, points, 0);
+				return points;
+			case "line":
+				double[] to = vector(section.get("to"), "shape.to");
+				for (int i = 0; i < count; i++) {
+					double progress = count == 1 ? 0 : (double) i / (count - 1);
+					points[i * 3] = to[0] * progress;
+					points[i * 3 + 1] = to[1] * progress;
+					points[i * 3 + 2] = to[2] * progress;
+				}
+				return points;
+			default:
+				throw new IllegalArgumentException("Unknown shape: " + type);
+		}
+	}
+
+	private static Timeline timeline(ParticleEffect effect, double[] offset, float speed, Map<?, ?> section) {
+		if (section == null)
+			return null;
+
+		Timeline.Builder builder = Timeline.builder(effect)
+				.offset((float) offset[0], (float) offset[1], (float) offset[2])
+				.speed(speed)
+				.duration((int) number(section.get("duration"), 0, "animation.duration"))
+				.loop(Boolean.TRUE.equals(section.get("loop")));
+
+		Object keyframes = section.get("keyframes");
+		if (!(keyframes instanceof List))
+			throw new IllegalArgumentException("An animation needs a list of keyframes");
+
+		for (Object element : (List<?>) keyframes) {
+			Map<?, ?> keyframe = map(element, "animation.keyframes");
+			int tick = (int) number(keyframe.get("tick"), 0, "keyframe.tick");
+			Interpolation interpolation = interpolation(keyframe.get("interpolation"));
+
+			if (keyframe.containsKey("position")) {
+				double[] position = vector(keyframe.get("position"), "keyframe.position");
+				builder.position(tick, position[0], position[1], position[2], interpolation);
+			}
+			if (keyframe.containsKey("color")) {
+				int[] color = color(keyframe.get("color"), "keyframe.color");
+				builder.color(tick, color[0], color[1], color[2], interpolation);
+			}
+			if (keyframe.containsKey("size"))
+				builder.size(tick, (float) number(keyframe.get("size"), 1, "keyframe.size"), interpolation);
+			if (keyframe.containsKey("amount"))
+				builder.amount(tick, (int) number(keyframe.get("amount"), 0, "keyframe.amount"), interpolation);
+		}
+		return builder.build();
+	}
+
+	private static Interpolation interpolation(Object value) {
+		if (value == null)
+			return Interpolation.LINEAR;
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			if (list.size() != 4)
+				throw new IllegalArgumentException("A bezier interpolation needs four numbers");
+			return Interpolation.bezier((float) number(list.get(0), 0, "interpolation"), (float) number(list.get(1), 0, "interpolation"),
+					(float) number(list.get(2), 0, "interpolation"), (float) number(list.get(3), 0, "interpolation"));
+		}
+
+		switch (string(value, "interpolation").toLowerCase(Locale.ENGLISH)) {
+			case "linear":
+				return Interpolation.LINEAR;
+			case "step":
+				return Interpolation.STEP;
+			case "ease_in":
+				return Interpolation.EASE_IN;
+			case "ease_out":
+				return Interpolation.EASE_OUT;
+			case "ease":
+			case "ease_in_out":
+				return Interpolation.EASE_IN_OUT;
+			default:
+				throw new IllegalArgumentException("Unknown interpolation: " + value);
+		}
+	}
+
+	private static Audience audience(Object value) {
+		if (value == null || "world".equals(value))
+			return Audience.world();
+
+		Map<?, ?> section = map(value, "audience");
+		Audience audience = section.containsKey("radius")
+				? Audience.radius(number(section.get("radius"), 0, "audience.radius"))
+				: Audience.world();
+		if (section.containsKey("permission")) {
+			String permission = string(section.get("permission"), "audience.permission");
+			audience = audience.filter(player -> player.hasPermission(permission));
+		}
+		return audience;
+	}
+
+	private static Material material(Object value, String key) {
+		String name = string(value, key);
+		Material material = Material.matchMaterial(name);
+		if (material == null)
+			throw new IllegalArgumentException("Unknown material in " + key + ": " + name);
+		return material;
+	}
+
+	private static int[] color(Object value, String key) {
+		if (value instanceof String && ((String) value).startsWith("#") && ((String) value).length() == 7) {
+			try {
+				int rgb = Integer.parseInt(((String) value).substring(1), 16);
+				return new int[] {rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF};
+			} catch (NumberFormatException ignored) {
+			}
+		}
+		if (value instanceof List && ((List<?>) value).size() == 3) {
+			List<?> list = (List<?>) value;
+			return new int[] {(int) number(list.get(0), 0, key), (int) number(list.get(1), 0, key), (int) number(list.get(2), 0, key)};
+		}
+		throw new IllegalArgumentException(key + " must be a hex color like #ff8800 or a list of red, green and blue");
+	}
+
+	private static double[] vector(Object value, String key) {
+		if (value == null)
+			return new double[3];
+		if (!(value instanceof List) || ((List<?>) value).size() != 3)
+			throw new IllegalArgumentException(key + " must be a list of x, y and z");
+
+		List<?> list = (List<?>) value;
+		return new double[] {number(list.get(0), 0, key), number(list.get(1), 0, key), number(list.get(2), 0, key)};
+	}
+
+	private static double number(Object value, double defaultValue, String key) {
+		if (value == null)
+			return defaultValue;
+		if (!(value instanceof Number))
+			throw new IllegalArgumentException(key + " must be a number");
+		return ((Number) value).doubleValue();
+	}
+
+	private static String string(Object value, String key) {
+		if (value == null)
+			throw new IllegalArgumentException("Missing " + key);
+		return value.toString();
+	}
+
+	private static Map<?, ?> map(Object value, String key) {
+		if (value != null && !(value instanceof Map))
+			throw new IllegalArgumentException(key + " must be a section");
+		return (Map<?, ?>) value;
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.definition;
+
+import com.google.gson.Gson;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Loads effect definitions from YAML ({@code .yml}, {@code .yaml}) and JSON
+ * ({@code .json}) files and compiles them into {@link PreparedEmitter PreparedEmitters}.
+ * Every file maps the names of its effects to their definitions, see
+ * {@link EffectCompiler} for the format.
+ * <p>
+ * Files whose content didn't change are skipped, and definitions are
+ * identified by a hash of their content, so reloading only compiles the
+ * effects that were actually edited. A watched directory is reloaded
+ * automatically when its files change. Invalid files are logged and keep
+ * their previous effects. If several files define the same effect, the file
+ * whose path comes first wins and the others are logged.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class EffectRegistry implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger("ParticleLib");
+
+	/**
+	 * The emitters of every loaded file by name.
+	 */
+	private final Map<Path, Map<String, PreparedEmitter>> files = new ConcurrentHashMap<>();
+	/**
+	 * The content hash of every loaded file.
+	 */
+	private final Map<Path, String> fileHashes = new ConcurrentHashMap<>();
+	/**
+	 * Every compiled emitter by the hash of its definition.
+	 */
+	private final Map<String, PreparedEmitter> compiled = new ConcurrentHashMap<>();
+	private volatile Map<String, PreparedEmitter> emitters = Collections.emptyMap();
+
+	private WatchService watchService;
+	private Thread watcher;
+
+	/**
+	 * Gets a compiled effect.
+	 *
+	 * @param name the name of the effect.
+	 * @return the {@link PreparedEmitter} or {@code null} if there is no effect with this name.
+	 */
+	public PreparedEmitter get(String name) {
+		return emitters.get(name);
+	}
+
+	/**
+	 * Gets every compiled effect.
+	 *
+	 * @return an unmodifiable map of the effects by name.
+	 */
+	public Map<String, PreparedEmitter> getEmitters() {
+		return emitters;
+	}
+
+	/**
+	 * Loads every definition file of the given directory. Invalid files are logged
+	 * and don't stop the remaining files from being loaded.
+	 *
+	 * @param directory the directory that should be loaded.
+	 * @throws IOException if the directory or one of its files can't be read.
+	 */
+	public void loadDirectory(Path directory) throws IOException {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, EffectRegistry::isDefinitionFile)) {
+			for (Path file : stream) {
+				try {
+					load(file);
+				} catch (RuntimeException ex) {
+					LOGGER.log(Level.WARNING, "Could not load effect definitions from " + file, ex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads a definition file and replaces the effects previously loaded from it.
+	 *
+	 * @param file the file that should be loaded.
+	 * @return the effects of the file by name.
+	 * @throws IOException              if the file can't be read.
+	 * @throws IllegalArgumentException if a definition of the file is invalid.
+	 */
+	public synchronized Map<String, PreparedEmitter> load(Path file) throws IOException {
+		file = file.toAbsolutePath();
+		byte[] content = Files.readAllBytes(file);
+		String fileHash = hash(content);
+		Map<String, PreparedEmitter> loaded = files.get(file);
+		if (loaded != null && fileHash.equals(fileHashes.get(file)))
+			return loaded;
+
+		Map<?, ?> definitions = parse(new String(content, StandardCharsets.UTF_8), file.getFileName().toString().endsWith(".json"));
+		loaded = new LinkedHashMap<>();
+		for (Map.Entry<?, ?> entry : definitions.entrySet()) {
+			String name = String.valueOf(entry.getKey());
+			if (!(entry.getValue() instanceof Map))
+				throw new IllegalArgumentException("The definition of " + name + " in " + file + " must be a section");
+
+			Map<?, ?> definition = (Map<?, ?>) entry.getValue();
+			String hash = hash((name + '\0' + canonicalize(definition)).getBytes(StandardCharsets.UTF_8));
+			PreparedEmitter emitter = compiled.get(hash);
+			if (emitter == null) {
+				try {
+					emitter = EffectCompiler.compile(name, hash, definition);
+				} catch (IllegalArgumentException ex) {
+					throw new IllegalArgumentException("Invalid effect " + name + " in " + file + ": " + ex.getMessage(), ex);
+				}
+				compiled.put(hash, emitter);
+			}
+			loaded.put(name, emitter);
+		}
+
+		loaded = Collections.unmodifiableMap(loaded);
+		files.put(file, loaded);
+		fileHashes.put(file, fileHash);
+		rebuild();
+		return loaded;
+	}
+
+	/**
+	 * Removes the effects that were loaded from the given file.
+	 *
+	 * @param file the file whose effects should be removed.
+	 */
+	public synchronized void unload(Path file) {
+		file = file.toAbsolutePath();
+		files.remove(file);
+		fileHashes.remove(file);
+		rebuild();
+	}
+
+	/**
+	 * Reloads the files of the given directory whenever they are changed, until
+	 * this registry is closed. Only one directory can be watched at once.
+	 *
+	 * @param directory the directory that should be watched.
+	 * @throws IOException if the directory can't be watched.
+	 */
+	public synchronized void watch(Path directory) throws IOException {
+		if (watchService != null)
+			throw new IllegalStateException("Already watching a directory");
+
+		Path root = directory.toAbsolutePath();
+		WatchService service = root.getFileSystem().newWatchService();
+		root.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+		watchService = service;
+		watcher = new Thread(() -> watchLoop(root, service), "ParticleLib Effect Watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	/**
+	 * Stops watching the directory.
+	 */
+	@Override
+	public synchronized void close() {
+		if (watchService == null)
+			return;
+		try {
+			watchService.close();
+		} catch (IOException ignored) {
+		}
+		watchService = null;
+		watcher = null;
+	}
+
+	private void watchLoop(Path directory, WatchService service) {
+		try {
+			while (true) {
+				WatchKey key = service.take();
+				// Editors often write a file in several steps, wait for them to settle.
+				Thread.sleep(100);
+
+				Set<Path> changed = new HashSet<>();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.context() instanceof Path)
+						changed.add(directory.resolve((Path) event.context()));
+				}
+				key.reset();
+
+				for (Path file : changed) {
+					if (!isDefinitionFile(file))
+						continue;
+					try {
+						if (Files.exists(file))
+							load(file);
+						else
+							unload(file);
+					} catch (Exception ex) {
+						LOGGER.log(Level.WARNING, "Could not reload effect definitions from " + file, ex);
+					}
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException ignored) {
+		}
+	}
+
+	/**
+	 * Merges the effects of all files and drops compiled emitters that aren't used anymore.
+	 * Files are merged in the order of their paths, so duplicates always resolve the same way.
+	 */
+	private void rebuild() {
+		Map<String, PreparedEmitter> merged = new HashMap<>();
+		Map<String, Path> sources = new HashMap<>();
+		for (Map.Entry<Path, Map<String, PreparedEmitter>> file : new TreeMap<>(files).entrySet()) {
+			for (Map.Entry<String, PreparedEmitter> entry : file.getValue().entrySet()) {
+				Path source = sources.putIfAbsent(entry.getKey(), file.getKey());
+				if (source == null)
+					merged.put(entry.getKey(), entry.getValue());
+				else
+					LOGGER.warning("Effect " + entry.getKey() + " of " + file.getKey() + " is already defined in " + source + " and is ignored");
+			}
+		}
+
+		Set<String> used = merged.values().stream().map(PreparedEmitter::getHash).collect(Collectors.toSet());
+		compiled.keySet().retainAll(used);
+		emitters = Collections.unmodifiableMap(merged);
+	}
+
+	private static boolean isDefinitionFile(Path file) {
+		String name = file.getFileName().toString();
+		return name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".json");
+	}
+
+	private static Map<?, ?> parse(String content, boolean json) {
+		Object tree = json ? new Gson().fromJson(content, Map.class) : new Yaml(new SafeConstructor(new LoaderOptions())).load(content);
+		if (tree == null)
+			return Collections.emptyMap();
+		if (!(tree instanceof Map))
+			throw new IllegalArgumentException("A definition file must map effect names to definitions");
+		return (Map<?, ?>) tree;
+	}
+
+	/**
+	 * Sorts every section of the tree by key, so equal definitions produce the same string.
+	 */
+	private static Object canonicalize(Object value) {
+		if (value instanceof Map) {
+			Map<String, Object> sorted = new TreeMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+				sorted.put(String.valueOf(entry.getKey()), canonicalize(entry.getValue()));
+			return sorted;
+		}
+		if (value instanceof List)
+			return ((List<?>) value).stream().map(EffectRegistry::canonicalize).collect(Collectors.toList());
+		// JSON only knows doubles, YAML keeps integers.
+		if (value instanceof Number)
+			return ((Number) value).doubleValue();
+		return value;
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				builder.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			return builder.toString();
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 isn't available", ex);
+		}
+	}
+}
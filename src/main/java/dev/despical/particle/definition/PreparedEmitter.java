@@ -0,0 +1,167 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.definition;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.animation.Timeline;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+
+/**
+ * An immutable, ready to display effect compiled from a definition by the
+ * {@link EffectRegistry}. The {@link ParticlePacket}, the resolved data of
+ * the particle and the points of the shape are created once, so an emission
+ * only has to offset the points by the origin.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class PreparedEmitter {
+
+	private final String name;
+	private final String hash;
+	private final ParticlePacket packet;
+	/**
+	 * The x, y and z offsets of every point of the shape.
+	 */
+	private final double[] points;
+	private final Timeline timeline;
+	private final Audience audience;
+
+	PreparedEmitter(String name, String hash, ParticlePacket packet, double[] points, Timeline timeline, Audience audience) {
+		this.name = name;
+		this.hash = hash;
+		this.packet = packet;
+		this.points = points;
+		this.timeline = timeline;
+		this.audience = audience;
+
+		ParticleData data = packet.getParticleData();
+		if (data != null) {
+			if (ParticleEffect.USE_API)
+				data.getBukkitData();
+			else
+				data.getNMSData();
+		}
+	}
+
+	/**
+	 * Gets the name of the definition.
+	 *
+	 * @return the name of this emitter.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the content hash of the definition. Emitters with the same hash are reused on reload.
+	 *
+	 * @return the hex encoded hash.
+	 */
+	public String getHash() {
+		return hash;
+	}
+
+	/**
+	 * Gets the {@link ParticlePacket} every point is displayed with.
+	 *
+	 * @return the prepared packet.
+	 */
+	public ParticlePacket getPacket() {
+		return packet;
+	}
+
+	/**
+	 * Gets the amount of points of the shape.
+	 *
+	 * @return the amount of points.
+	 */
+	public int getPointCount() {
+		return points.length / 3;
+	}
+
+	/**
+	 * Gets the points of the shape.
+	 *
+	 * @return a copy of the x, y and z offsets of every point.
+	 */
+	public double[] getPoints() {
+		return points.clone();
+	}
+
+	/**
+	 * Gets the {@link Timeline} that is played at every point.
+	 *
+	 * @return the timeline or {@code null} if the effect isn't animated.
+	 */
+	public Timeline getTimeline() {
+		return timeline;
+	}
+
+	/**
+	 * Gets the {@link Audience} of the definition.
+	 *
+	 * @return the default audience of this emitter.
+	 */
+	public Audience getAudience() {
+		return audience;
+	}
+
+	/**
+	 * Displays the effect to the {@link Audience} of the definition.
+	 *
+	 * @param origin the {@link Location} the shape is centered at.
+	 */
+	public void emit(Location origin) {
+		emit(origin, audience);
+	}
+
+	/**
+	 * Displays the effect to the given {@link Audience}. Animated effects start
+	 * their {@link Timeline} at every point of the shape.
+	 *
+	 * @param origin   the {@link Location} the shape is centered at.
+	 * @param audience the {@link Audience} that should see the effect.
+	 */
+	public void emit(Location origin, Audience audience) {
+		// Emissions are handed over to other threads on Folia, so the location can only be reused elsewhere.
+		boolean reuse = !SchedulerUtils.isRegionized();
+		Location location = origin.clone();
+		double x = origin.getX(), y = origin.getY(), z = origin.getZ();
+
+		for (int i = 0; i < points.length; i += 3) {
+			if (!reuse && i != 0)
+				location = origin.clone();
+			location.setX(x + points[i]);
+			location.setY(y + points[i + 1]);
+			location.setZ(z + points[i + 2]);
+
+			if (timeline != null)
+				timeline.play(location, audience);
+			else
+				NMSUtils.display(packet, location, audience);
+		}
+	}
+}
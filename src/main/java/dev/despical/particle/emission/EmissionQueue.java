@@ -0,0 +1,443 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.emission;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.metrics.ParticleMetrics;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded queue that lets any thread emit particles. Producers write primitive
+ * records of a packet handle, a world and coordinates into a ring buffer without
+ * taking a lock, and a single drain per tick culls the emissions no player is close
+ * enough to see, batches the rest per world and sends them through the batched
+ * display of {@link NMSUtils}.
+ * <p>
+ * The ring buffer follows the bounded queue of Dmitry Vyukov: every slot has a
+ * sequence number that tells producers whether the slot is free and the consumer
+ * whether it was published. Packets are registered once with {@link #register(ParticlePacket)}
+ * and referenced by their handle afterwards, so offering an emission doesn't create any object.
+ * <p>
+ * On Folia the drain runs on the global region, which can't read players. Emissions
+ * aren't culled by distance there, and they are batched per chunk instead of per
+ * world, so every batch is handed to the region that owns its chunk and reaches the
+ * players of that region, like any other particle displayed on Folia.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class EmissionQueue {
+
+	/**
+	 * What happens when an emission is offered to a full queue.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * The emission is dropped.
+		 */
+		DROP,
+
+		/**
+		 * The producer waits for free space until the block timeout elapses and drops the
+		 * emission afterwards. The server thread never waits, as it drains the queue itself.
+		 */
+		BLOCK
+	}
+
+	private final int mask;
+	private final AtomicLongArray sequences;
+	private final int[] handles;
+	private final World[] worlds;
+	private final double[] xs, ys, zs;
+	private final AtomicLong tail = new AtomicLong();
+	/**
+	 * Only read and written by the consumer.
+	 */
+	private long head;
+
+	private volatile ParticlePacket[] packets = new ParticlePacket[0];
+	private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+	private volatile long blockTimeout = TimeUnit.MILLISECONDS.toNanos(50);
+	private volatile Audience audience = Audience.WORLD;
+	private volatile double cullDistance = 64;
+	private volatile int maxDrain = Integer.MAX_VALUE;
+
+	private SchedulerUtils.Task task;
+
+	/**
+	 * Creates a new {@link EmissionQueue}.
+	 *
+	 * @param capacity the amount of emissions the queue can hold, rounded up to a power of two.
+	 */
+	public EmissionQueue(int capacity) {
+		if (capacity < 2 || capacity > 1 << 30)
+			throw new IllegalArgumentException("The capacity must be between 2 and 2^30");
+
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++)
+			sequences.set(i, i);
+
+		this.handles = new int[size];
+		this.worlds = new World[size];
+		this.xs = new double[size];
+		this.ys = new double[size];
+		this.zs = new double[size];
+	}
+
+	/**
+	 * Registers a packet that can be emitted through this queue.
+	 *
+	 * @param packet the {@link ParticlePacket} that should be registered.
+	 * @return the handle of the packet.
+	 */
+	public synchronized int register(ParticlePacket packet) {
+		Objects.requireNonNull(packet);
+		ParticlePacket[] registered = Arrays.copyOf(packets, packets.length + 1);
+		registered[packets.length] = packet;
+		packets = registered;
+		return packets.length - 1;
+	}
+
+	/**
+	 * Offers an emission of a registered packet. Can be called from any thread.
+	 *
+	 * @param handle the handle of the {@link ParticlePacket} returned by {@link #register(ParticlePacket)}.
+	 * @param world  the {@link World} of the particle.
+	 * @param x      the x coordinate of the particle.
+	 * @param y      the y coordinate of the particle.
+	 * @param z      the z coordinate of the particle.
+	 * @return {@code true} if the emission was enqueued, {@code false} if it was dropped.
+	 */
+	public boolean offer(int handle, World world, double x, double y, double z) {
+		if (handle < 0 || handle >= packets.length)
+			throw new IllegalArgumentException("Unknown packet handle: " + handle);
+		Objects.requireNonNull(world);
+
+		boolean blocked = false;
+		long deadline = 0;
+		while (true) {
+			long position = tail.get();
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (!tail.compareAndSet(position, position + 1))
+					continue;
+
+				handles[index] = handle;
+				worlds[index] = world;
+				xs[index] = x;
+				ys[index] = y;
+				zs[index] = z;
+				// Publishes the record, the consumer reads the sequence before the record.
+				sequences.lazySet(index, position + 1);
+				ParticleMetrics.recordQueueOffer(true, blocked);
+				return true;
+			}
+
+			if (difference > 0)
+				continue;
+
+			// The slot still holds a record of the previous lap, so the queue is full.
+			if (overflowPolicy == OverflowPolicy.DROP || Bukkit.isPrimaryThread()) {
+				ParticleMetrics.recordQueueOffer(false, blocked);
+				return false;
+			}
+
+			long now = System.nanoTime();
+			if (!blocked) {
+				blocked = true;
+				deadline = now + blockTimeout;
+			} else if (now - deadline >= 0) {
+				ParticleMetrics.recordQueueOffer(false, true);
+				return false;
+			}
+			LockSupport.parkNanos(50_000);
+		}
+	}
+
+	/**
+	 * Gets the amount of emissions waiting for the next drain.
+	 *
+	 * @return the approximate size of the queue.
+	 */
+	public int size() {
+		long size = tail.get() - head;
+		return (int) Math.max(0, Math.min(size, mask + 1));
+	}
+
+	/**
+	 * Gets the maximum amount of emissions the queue can hold.
+	 *
+	 * @return the capacity of the queue.
+	 */
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Sets what happens when an emission is offered to a full queue.
+	 *
+	 * @param overflowPolicy the {@link OverflowPolicy} of this queue.
+	 * @return this queue.
+	 */
+	public EmissionQueue overflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+		return this;
+	}
+
+	/**
+	 * Sets how long producers wait for free space with {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @param timeout the maximum time to wait.
+	 * @param unit    the {@link TimeUnit} of the timeout.
+	 * @return this queue.
+	 */
+	public EmissionQueue blockTimeout(long timeout, TimeUnit unit) {
+		this.blockTimeout = unit.toNanos(timeout);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link Audience} the drained emissions are displayed to.
+	 *
+	 * @param audience the {@link Audience} of the emissions.
+	 * @return this queue.
+	 */
+	public EmissionQueue audience(Audience audience) {
+		this.audience = Objects.requireNonNull(audience);
+		return this;
+	}
+
+	/**
+	 * Sets the distance to the closest player beyond which emissions are dropped by the drain.
+	 * Ignored on Folia, where the drain can't read the positions of the players.
+	 *
+	 * @param cullDistance the distance in blocks.
+	 * @return this queue.
+	 */
+	public EmissionQueue cullDistance(double cullDistance) {
+		this.cullDistance = cullDistance;
+		return this;
+	}
+
+	/**
+	 * Sets how many emissions a single drain takes at most, the rest waits for the next tick.
+	 *
+	 * @param maxDrain the maximum amount of emissions per drain.
+	 * @return this queue.
+	 */
+	public EmissionQueue maxDrain(int maxDrain) {
+		if (maxDrain < 1)
+			throw new IllegalArgumentException("A drain has to take at least one emission");
+		this.maxDrain = maxDrain;
+		return this;
+	}
+
+	/**
+	 * Starts draining the queue every tick.
+	 *
+	 * @return this queue.
+	 */
+	public synchronized EmissionQueue start() {
+		if (task == null)
+			task = SchedulerUtils.runTimer(this::drain, 1, 1);
+		return this;
+	}
+
+	/**
+	 * Stops draining the queue, the emissions stay queued.
+	 */
+	public synchronized void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	/**
+	 * Checks if the queue is drained every tick.
+	 *
+	 * @return {@code true} if the queue was started.
+	 */
+	public synchronized boolean isRunning() {
+		return task != null;
+	}
+
+	/**
+	 * Takes the queued emissions and displays them. Called every tick once the queue was started.
+	 *
+	 * @return the amount of drained emissions.
+	 */
+	public synchronized int drain() {
+		ParticlePacket[] packets = this.packets;
+		double maxDistanceSquared = cullDistance * cullDistance;
+		int drained = 0, culled = 0, limit = maxDrain;
+		boolean regionized = SchedulerUtils.isRegionized();
+		// The players of a world are read once per drain, when its first emission is drained.
+		Map<World, Batch> batches = new HashMap<>();
+		// On Folia a batch must not span several regions, so the emissions are batched per chunk.
+		Map<World, Map<Long, Batch>> chunkBatches = regionized ? new HashMap<>() : null;
+
+		while (drained < limit) {
+			long position = head;
+			int index = (int) position & mask;
+			if (sequences.get(index) != position + 1)
+				break;
+
+			int handle = handles[index];
+			World world = worlds[index];
+			double x = xs[index], y = ys[index], z = zs[index];
+			worlds[index] = null;
+			// Frees the slot for the producers of the next lap.
+			sequences.lazySet(index, position + mask + 1);
+			head = position + 1;
+			drained++;
+
+			Batch batch;
+			if (regionized) {
+				long chunk = (long) ((int) Math.floor(x) >> 4) << 32 | ((int) Math.floor(z) >> 4) & 0xFFFFFFFFL;
+				batch = chunkBatches.computeIfAbsent(world, key -> new HashMap<>()).computeIfAbsent(chunk, key -> new Batch(world, false));
+			} else {
+				batch = batches.computeIfAbsent(world, key -> new Batch(world, true));
+			}
+
+			if (!batch.isVisible(x, y, z, maxDistanceSquared)) {
+				culled++;
+				continue;
+			}
+			batch.add(packets[handle], x, y, z, audience);
+		}
+
+		for (Batch batch : batches.values())
+			batch.flush(audience);
+		if (regionized) {
+			for (Map<Long, Batch> chunks : chunkBatches.values())
+				chunks.values().forEach(batch -> batch.flush(audience));
+		}
+
+		if (drained != 0)
+			ParticleMetrics.recordQueueDrained(drained, culled);
+		return drained;
+	}
+
+	/**
+	 * The emissions of a single world, or of a single chunk on Folia, in a drain.
+	 */
+	private static final class Batch {
+
+		private final World world;
+		private final double[] players;
+		private final ParticlePacket[] palette = new ParticlePacket[256];
+		private int paletteSize, count;
+		private byte[] indices = new byte[64];
+		private double[] positions = new double[64 * 3];
+
+		/**
+		 * @param world       the {@link World} of the emissions.
+		 * @param readPlayers whether the players are read to cull emissions, {@code false} keeps every emission.
+		 */
+		Batch(World world, boolean readPlayers) {
+			this.world = world;
+			if (!readPlayers) {
+				this.players = null;
+				return;
+			}
+
+			List<Player> worldPlayers = world.getPlayers();
+			this.players = new double[worldPlayers.size() * 3];
+			Location location = new Location(world, 0, 0, 0);
+			for (int i = 0; i < worldPlayers.size(); i++) {
+				worldPlayers.get(i).getLocation(location);
+				players[i * 3] = location.getX();
+				players[i * 3 + 1] = location.getY();
+				players[i * 3 + 2] = location.getZ();
+			}
+		}
+
+		boolean isVisible(double x, double y, double z, double maxDistanceSquared) {
+			if (players == null)
+				return true;
+			for (int i = 0; i < players.length; i += 3) {
+				double dx = players[i] - x, dy = players[i + 1] - y, dz = players[i + 2] - z;
+				if (dx * dx + dy * dy + dz * dz <= maxDistanceSquared)
+					return true;
+			}
+			return false;
+		}
+
+		void add(ParticlePacket packet, double x, double y, double z, Audience audience) {
+			int index = -1;
+			for (int i = 0; i < paletteSize; i++) {
+				if (palette[i] == packet) {
+					index = i;
+					break;
+				}
+			}
+
+			if (index == -1) {
+				if (paletteSize == palette.length)
+					flush(audience);
+				index = paletteSize;
+				palette[paletteSize++] = packet;
+			}
+
+			if (count == indices.length) {
+				indices = Arrays.copyOf(indices, count * 2);
+				positions = Arrays.copyOf(positions, count * 6);
+			}
+
+			indices[count] = (byte) index;
+			positions[count * 3] = x;
+			positions[count * 3 + 1] = y;
+			positions[count * 3 + 2] = z;
+			count++;
+		}
+
+		void flush(Audience audience) {
+			if (count != 0) {
+				// Displays that are handed to another region on Folia copy the arrays themselves.
+				Location origin = new Location(world, positions[0], positions[1], positions[2]);
+				NMSUtils.display(palette, indices, positions, count, origin, audience);
+			}
+
+			Arrays.fill(palette, 0, paletteSize, null);
+			paletteSize = count = 0;
+		}
+	}
+}
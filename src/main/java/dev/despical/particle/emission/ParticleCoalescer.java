@@ -0,0 +1,271 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.emission;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.audience.LevelOfDetail;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.ParticleColor;
+import dev.despical.particle.metrics.ParticleMetrics;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merges point particles that are emitted in the same tick into a single
+ * cloud packet. Emissions of the same effect, data, audience and level of
+ * detail that fall into the same cell are collected until the end of the
+ * tick and sent as one {@link ParticlePacket} at their mean position, with
+ * the standard deviation as offsets and the total amount. The client
+ * scatters the particles itself, so exact positions are lost.
+ * <p>
+ * Only particles without offsets are merged, as offsets of other particles
+ * define a velocity or a color. Data and audiences are compared by value, so
+ * e.g. two emissions with a new {@code RegularColor} of the same color to
+ * players passed in the same collection are merged.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleCoalescer {
+
+	private static final Map<Key, Group> GROUPS = new ConcurrentHashMap<>();
+
+	private static volatile double cellSize = 1;
+	private static SchedulerUtils.Task task;
+
+	private ParticleCoalescer() {
+	}
+
+	/**
+	 * Gets the edge length of the cells emissions are merged in.
+	 *
+	 * @return the cell size in blocks.
+	 */
+	public static double getCellSize() {
+		return cellSize;
+	}
+
+	/**
+	 * Sets the edge length of the cells emissions are merged in.
+	 *
+	 * @param cellSize the new cell size in blocks.
+	 */
+	public static void setCellSize(double cellSize) {
+		if (cellSize <= 0)
+			throw new IllegalArgumentException("The cell size must be positive");
+		ParticleCoalescer.cellSize = cellSize;
+	}
+
+	/**
+	 * Checks if the given particle can be merged with others.
+	 *
+	 * @param packet the {@link ParticlePacket} that should be checked.
+	 * @return {@code true} if the particle is a point without offsets.
+	 */
+	public static boolean canCoalesce(ParticlePacket packet) {
+		if (packet.getOffsetX() != 0 || packet.getOffsetY() != 0 || packet.getOffsetZ() != 0)
+			return false;
+		ParticleData data = packet.getParticleData();
+		return !(data instanceof ParticleColor) || packet.getParticle().hasProperty(PropertyType.DUST);
+	}
+
+	/**
+	 * Displays the given particle at the end of the current tick, merged with
+	 * similar particles. Particles that can't be merged and particles emitted
+	 * before {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)} was called
+	 * are displayed immediately.
+	 *
+	 * @param packet   the {@link ParticlePacket} that should be displayed.
+	 * @param location the {@link Location} of the particle.
+	 * @param audience the {@link Audience} that should receive the particle.
+	 * @param detail   the {@link LevelOfDetail} of the recipients.
+	 */
+	public static void display(ParticlePacket packet, Location location, Audience audience, LevelOfDetail detail) {
+		if (SchedulerUtils.getPlugin() == null || !canCoalesce(packet)) {
+			NMSUtils.display(packet, location, audience, detail);
+			return;
+		}
+
+		ensureStarted();
+		double size = cellSize;
+		Key key = new Key(packet, location.getWorld(), audience, detail,
+				(long) Math.floor(location.getX() / size),
+				(long) Math.floor(location.getY() / size),
+				(long) Math.floor(location.getZ() / size));
+
+		while (true) {
+			Group group = GROUPS.computeIfAbsent(key, k -> new Group(packet, location));
+			synchronized (group) {
+				if (!group.flushed) {
+					group.add(packet, location);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Displays every collected group. This is called at the end of every tick.
+	 */
+	public static void flush() {
+		Iterator<Map.Entry<Key, Group>> iterator = GROUPS.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Key, Group> entry = iterator.next();
+			iterator.remove();
+
+			Key key = entry.getKey();
+			Group group = entry.getValue();
+			synchronized (group) {
+				group.flushed = true;
+			}
+
+			if (group.count == 1) {
+				NMSUtils.display(group.first, group.origin, key.audience, key.detail);
+				continue;
+			}
+
+			double meanX = group.sumX / group.count, meanY = group.sumY / group.count, meanZ = group.sumZ / group.count;
+			float offsetX = deviation(group.sumSquaredX, meanX, group.count);
+			float offsetY = deviation(group.sumSquaredY, meanY, group.count);
+			float offsetZ = deviation(group.sumSquaredZ, meanZ, group.count);
+			// Single particles without an amount don't move, which a cloud only keeps without speed.
+			float speed = key.amountless ? 0 : key.speed;
+
+			ParticlePacket merged = new ParticlePacket(key.effect, offsetX, offsetY, offsetZ, speed, group.amount, key.data);
+			Location center = group.origin.clone().add(meanX, meanY, meanZ);
+			NMSUtils.display(merged, center, key.audience, key.detail);
+			ParticleMetrics.recordCoalesced(group.count);
+		}
+	}
+
+	private static float deviation(double sumSquared, double mean, int count) {
+		return (float) Math.sqrt(Math.max(0, sumSquared / count - mean * mean));
+	}
+
+	private static synchronized void ensureStarted() {
+		if (task == null)
+			task = SchedulerUtils.runTimer(ParticleCoalescer::flush, 1, 1);
+	}
+
+	/**
+	 * Stops merging particles and displays the collected ones.
+	 */
+	public static synchronized void shutdown() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+		flush();
+	}
+
+	private static final class Key {
+
+		private final ParticleEffect effect;
+		private final ParticleData data;
+		private final float speed;
+		private final boolean amountless;
+		private final World world;
+		private final Audience audience;
+		private final LevelOfDetail detail;
+		private final long cellX, cellY, cellZ;
+		private final int hash;
+
+		Key(ParticlePacket packet, World world, Audience audience, LevelOfDetail detail, long cellX, long cellY, long cellZ) {
+			this.effect = packet.getParticle();
+			this.data = packet.getParticleData();
+			this.speed = packet.getSpeed();
+			this.amountless = packet.getAmount() == 0;
+			this.world = world;
+			this.audience = audience;
+			this.detail = detail;
+			this.cellX = cellX;
+			this.cellY = cellY;
+			this.cellZ = cellZ;
+
+			int hash = effect.hashCode();
+			hash = 31 * hash + Objects.hashCode(data);
+			hash = 31 * hash + Float.floatToIntBits(speed);
+			hash = 31 * hash + audience.hashCode();
+			hash = 31 * hash + Long.hashCode(cellX);
+			hash = 31 * hash + Long.hashCode(cellY);
+			hash = 31 * hash + Long.hashCode(cellZ);
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object)
+				return true;
+			if (!(object instanceof Key))
+				return false;
+			Key key = (Key) object;
+			return effect == key.effect && Objects.equals(data, key.data) && Float.compare(speed, key.speed) == 0
+					&& amountless == key.amountless && audience.equals(key.audience) && detail == key.detail
+					&& cellX == key.cellX && cellY == key.cellY && cellZ == key.cellZ
+					&& Objects.equals(world, key.world);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * The emissions of a single {@link Key}. Coordinates are summed relative to
+	 * the first emission to keep the precision of the deviation.
+	 */
+	private static final class Group {
+
+		private final ParticlePacket first;
+		private final Location origin;
+		private int count, amount;
+		private double sumX, sumY, sumZ;
+		private double sumSquaredX, sumSquaredY, sumSquaredZ;
+		private boolean flushed;
+
+		Group(ParticlePacket first, Location origin) {
+			this.first = first;
+			this.origin = origin.clone();
+		}
+
+		void add(ParticlePacket packet, Location location) {
+			double x = location.getX() - origin.getX(), y = location.getY() - origin.getY(), z = location.getZ() - origin.getZ();
+			count++;
+			amount += Math.max(1, packet.getAmount());
+			sumX += x;
+			sumY += y;
+			sumZ += z;
+			sumSquaredX += x * x;
+			sumSquaredY += y * y;
+			sumSquaredZ += z * z;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.emission;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.metrics.ParticleMetrics;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Drops particles that were already sent to the same player in the current
+ * tick, e.g. when overlapping region borders emit the same particle twice.
+ * <p>
+ * Particles are identified by a 64-bit hash of the player, the fields of the
+ * {@link ParticlePacket} and the location rounded to 1/16 of a block. Data is
+ * hashed by value and compared with {@code equals} when the hashes match, so
+ * equal data built by two emitters is deduplicated while different data never
+ * is. The hashes are stored in fixed size open addressing
+ * tables that are cleared every tick by bumping a tick stamp, so clearing
+ * doesn't touch the tables at all. Once a table is three quarters full, new
+ * particles of that tick pass without being remembered.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleDeduplicator {
+
+	/**
+	 * The amount of tables, players are spread over them to reduce lock contention on Folia.
+	 */
+	private static final int STRIPES = 8;
+	/**
+	 * The capacity of a single table, must be a power of two.
+	 */
+	private static final int CAPACITY = 2048;
+	private static final int MAX_SIZE = CAPACITY * 3 / 4;
+
+	private static final Table[] TABLES = new Table[STRIPES];
+
+	private static volatile boolean enabled;
+	private static volatile int tick = 1;
+	private static SchedulerUtils.Task task;
+
+	static {
+		for (int i = 0; i < STRIPES; i++)
+			TABLES[i] = new Table();
+	}
+
+	private ParticleDeduplicator() {
+	}
+
+	/**
+	 * Checks if duplicate particles are dropped.
+	 *
+	 * @return {@code true} if the deduplication is enabled.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the deduplication. Requires {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)}
+	 * to be called first, as the tables are cleared by a task.
+	 *
+	 * @param enabled whether duplicate particles should be dropped.
+	 */
+	public static synchronized void setEnabled(boolean enabled) {
+		if (enabled && task == null) {
+			task = SchedulerUtils.runTimer(ParticleDeduplicator::nextTick, 1, 1);
+		} else if (!enabled && task != null) {
+			task.cancel();
+			task = null;
+		}
+		ParticleDeduplicator.enabled = enabled;
+	}
+
+	/**
+	 * Forgets every particle sent in the current tick.
+	 */
+	public static void nextTick() {
+		// Zero marks unused slots, so it is never used as a tick.
+		int next = tick + 1;
+		tick = next == 0 ? 1 : next;
+	}
+
+	/**
+	 * Checks if the given particle wasn't sent to the player in this tick yet
+	 * and remembers it.
+	 *
+	 * @param player   the receiving {@link Player}.
+	 * @param packet   the {@link ParticlePacket} that should be sent.
+	 * @param location the {@link Location} of the particle.
+	 * @return {@code true} if the particle should be sent.
+	 */
+	public static boolean accept(Player player, ParticlePacket packet, Location location) {
+		if (!enabled)
+			return true;
+
+		UUID uuid = player.getUniqueId();
+		long playerHash = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+		long hash = mix(playerHash);
+		ParticleData data = packet.getParticleData();
+		hash = mix(hash ^ ((long) packet.getParticle().ordinal() << 32 | Objects.hashCode(data) & 0xFFFFFFFFL));
+		hash = mix(hash ^ ((long) Float.floatToIntBits(packet.getOffsetX()) << 32 | Float.floatToIntBits(packet.getOffsetY()) & 0xFFFFFFFFL));
+		hash = mix(hash ^ ((long) Float.floatToIntBits(packet.getOffsetZ()) << 32 | Float.floatToIntBits(packet.getSpeed()) & 0xFFFFFFFFL));
+		hash = mix(hash ^ packet.getAmount());
+		hash = mix(hash ^ (long) Math.floor(location.getX() * 16));
+		hash = mix(hash ^ (long) Math.floor(location.getY() * 16));
+		hash = mix(hash ^ (long) Math.floor(location.getZ() * 16));
+
+		Table table = TABLES[(int) (playerHash & (STRIPES - 1))];
+		if (table.add(hash, data, tick))
+			return true;
+
+		ParticleMetrics.recordDeduplicated();
+		return false;
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static final class Table {
+
+		private final long[] hashes = new long[CAPACITY];
+		/**
+		 * The data of every slot, as different data can share the same hash.
+		 */
+		private final ParticleData[] data = new ParticleData[CAPACITY];
+		/**
+		 * The tick every slot was written in, slots of older ticks are empty.
+		 */
+		private final int[] ticks = new int[CAPACITY];
+		private int tick, size;
+
+		/**
+		 * Adds the given hash to the table.
+		 *
+		 * @param hash        the hash of the particle.
+		 * @param data        the {@link ParticleData} of the particle or {@code null}.
+		 * @param currentTick the current tick.
+		 * @return {@code false} if the hash was already added with equal data in this tick.
+		 */
+		synchronized boolean add(long hash, ParticleData data, int currentTick) {
+			if (tick != currentTick) {
+				tick = currentTick;
+				size = 0;
+			}
+
+			int mask = CAPACITY - 1;
+			for (int index = (int) hash & mask; ; index = (index + 1) & mask) {
+				if (ticks[index] != currentTick) {
+					if (size >= MAX_SIZE)
+						return true;
+					ticks[index] = currentTick;
+					hashes[index] = hash;
+					this.data[index] = data;
+					size++;
+					return true;
+				}
+				if (hashes[index] == hash && Objects.equals(this.data[index], data))
+					return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.entity;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.ReflectionUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.Objects;
+
+/**
+ * Displays a particle at an entity every few ticks, e.g. for trails and
+ * auras. The position is read from the nms entity into primitives and
+ * written into a single reused {@link Location}, instead of creating a new
+ * location with {@link Entity#getLocation()} every time. On versions whose
+ * entity fields aren't mapped, {@link Entity#getLocation(Location)} fills the
+ * reused location instead.
+ * <p>
+ * The emitter stops itself once the entity is removed, or when the audience
+ * had no recipient for longer than the idle timeout.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class EntityEmitter {
+
+	private final Entity entity;
+	private final ParticlePacket packet;
+	private final Location location;
+	private final double[] position = new double[3];
+	/**
+	 * Counts the recipients of the audience while they are resolved.
+	 */
+	private final Audience countingAudience;
+
+	private Audience audience;
+	private double offsetX, offsetY, offsetZ;
+	private long period = 1;
+	private long idleTimeout = 100;
+
+	private int recipients;
+	private long idleTicks;
+	private SchedulerUtils.Task task;
+
+	/**
+	 * Creates a new emitter that isn't running yet.
+	 *
+	 * @param entity the {@link Entity} the particle should follow.
+	 * @param packet the {@link ParticlePacket} that should be displayed.
+	 */
+	public EntityEmitter(Entity entity, ParticlePacket packet) {
+		this.entity = Objects.requireNonNull(entity);
+		this.packet = Objects.requireNonNull(packet);
+		this.location = new Location(entity.getWorld(), 0, 0, 0);
+		this.audience = Audience.tracking(entity);
+		this.countingAudience = (location, action) -> audience.forEach(location, player -> {
+			recipients++;
+			action.accept(player);
+		});
+	}
+
+	/**
+	 * Sets the {@link Audience} of the particle, the players tracking the entity by default.
+	 *
+	 * @param audience the {@link Audience} that should see the particle.
+	 * @return the current instance to support building operations
+	 */
+	public EntityEmitter audience(Audience audience) {
+		this.audience = Objects.requireNonNull(audience);
+		return this;
+	}
+
+	/**
+	 * Sets the offset of the particle from the position of the entity.
+	 *
+	 * @param offsetX the x offset.
+	 * @param offsetY the y offset.
+	 * @param offsetZ the z offset.
+	 * @return the current instance to support building operations
+	 */
+	public EntityEmitter offset(double offsetX, double offsetY, double offsetZ) {
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+		this.offsetZ = offsetZ;
+		return this;
+	}
+
+	/**
+	 * Sets the interval the particle is displayed in. Takes effect on the next start.
+	 *
+	 * @param period the amount of ticks between two emissions.
+	 * @return the current instance to support building operations
+	 */
+	public EntityEmitter period(long period) {
+		if (period < 1)
+			throw new IllegalArgumentException("The period must be at least one tick");
+		this.period = period;
+		return this;
+	}
+
+	/**
+	 * Sets how many ticks the emitter keeps running without any recipient.
+	 *
+	 * @param idleTimeout the amount of ticks, {@code -1} to never stop.
+	 * @return the current instance to support building operations
+	 */
+	public EntityEmitter idleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		return this;
+	}
+
+	/**
+	 * Gets the followed {@link Entity}.
+	 *
+	 * @return the entity of this emitter.
+	 */
+	public Entity getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Checks if the emitter is running.
+	 *
+	 * @return {@code true} if the particle is displayed.
+	 */
+	public synchronized boolean isRunning() {
+		return task != null;
+	}
+
+	/**
+	 * Starts displaying the particle. Requires {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)}.
+	 *
+	 * @return the current instance
+	 */
+	public synchronized EntityEmitter start() {
+		if (task == null) {
+			idleTicks = 0;
+			task = SchedulerUtils.runTimer(entity, this::tick, this::stop, 1, period);
+		}
+		return this;
+	}
+
+	/**
+	 * Stops displaying the particle.
+	 */
+	public synchronized void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	private void tick() {
+		if (!entity.isValid()) {
+			stop();
+			return;
+		}
+
+		// The handle is swapped when a player respawns or an entity changes worlds, so it can't be kept.
+		Object handle = ReflectionUtils.getEntityHandle(entity);
+		if (EntityPositionReader.read(handle, position)) {
+			location.setWorld(entity.getWorld());
+			location.setX(position[0]);
+			location.setY(position[1]);
+			location.setZ(position[2]);
+		} else {
+			entity.getLocation(location);
+		}
+		location.add(offsetX, offsetY, offsetZ);
+
+		recipients = 0;
+		NMSUtils.display(packet, location, countingAudience);
+		if (recipients != 0) {
+			idleTicks = 0;
+		} else if (idleTimeout >= 0 && (idleTicks += period) > idleTimeout) {
+			stop();
+		}
+	}
+}
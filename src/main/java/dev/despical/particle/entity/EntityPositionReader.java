@@ -0,0 +1,101 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.entity;
+
+import dev.despical.particle.ParticleConstants;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads the position of an nms Entity straight into primitives. The getters
+ * or fields found by {@link ParticleConstants} are turned into
+ * {@link MethodHandle MethodHandles} with a primitive return type once, so
+ * reading a coordinate doesn't box it like {@link Method#invoke(Object, Object...)} would.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class EntityPositionReader {
+
+	private static final MethodType COORDINATE_TYPE = MethodType.methodType(double.class, Object.class);
+
+	private static final MethodHandle GET_X, GET_Y, GET_Z;
+
+	static {
+		MethodHandle x = null, y = null, z = null;
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			if (ParticleConstants.ENTITY_LOC_X_FIELD != null && ParticleConstants.ENTITY_LOC_Y_FIELD != null && ParticleConstants.ENTITY_LOC_Z_FIELD != null) {
+				x = getter(lookup, ParticleConstants.ENTITY_LOC_X_FIELD);
+				y = getter(lookup, ParticleConstants.ENTITY_LOC_Y_FIELD);
+				z = getter(lookup, ParticleConstants.ENTITY_LOC_Z_FIELD);
+			} else if (ParticleConstants.ENTITY_GET_X_METHOD != null && ParticleConstants.ENTITY_GET_Y_METHOD != null && ParticleConstants.ENTITY_GET_Z_METHOD != null) {
+				x = lookup.unreflect(ParticleConstants.ENTITY_GET_X_METHOD).asType(COORDINATE_TYPE);
+				y = lookup.unreflect(ParticleConstants.ENTITY_GET_Y_METHOD).asType(COORDINATE_TYPE);
+				z = lookup.unreflect(ParticleConstants.ENTITY_GET_Z_METHOD).asType(COORDINATE_TYPE);
+			}
+		} catch (Exception ex) {
+			x = y = z = null;
+		}
+		GET_X = x;
+		GET_Y = y;
+		GET_Z = z;
+	}
+
+	private EntityPositionReader() {
+	}
+
+	/**
+	 * Checks if positions can be read from entity handles on this server.
+	 *
+	 * @return {@code true} if the coordinate getters were found.
+	 */
+	static boolean isSupported() {
+		return GET_X != null;
+	}
+
+	/**
+	 * Reads the position of an nms Entity.
+	 *
+	 * @param handle   the nms Entity.
+	 * @param position the array the x, y and z coordinates are written to.
+	 * @return {@code false} if the position couldn't be read.
+	 */
+	static boolean read(Object handle, double[] position) {
+		if (GET_X == null || handle == null)
+			return false;
+		try {
+			position[0] = (double) GET_X.invokeExact(handle);
+			position[1] = (double) GET_Y.invokeExact(handle);
+			position[2] = (double) GET_Z.invokeExact(handle);
+			return true;
+		} catch (Throwable throwable) {
+			return false;
+		}
+	}
+
+	private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+		return lookup.unreflectGetter(field).asType(COORDINATE_TYPE);
+	}
+}
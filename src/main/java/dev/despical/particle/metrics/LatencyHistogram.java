@@ -0,0 +1,149 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free latency histogram with log-linear buckets, similar to the
+ * bucket layout of HdrHistogram. Every power of two is split into
+ * {@link #SUB_BUCKETS} linear buckets, so any recorded value is off by
+ * at most 12.5% when it's read back as a percentile.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * The amount of linear buckets per power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 3, SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+	private final LongAdder count = new LongAdder(), sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a new value.
+	 *
+	 * @param nanos the measured latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			return;
+		buckets.incrementAndGet(indexOf(nanos));
+		count.increment();
+		sum.add(nanos);
+		max.accumulate(nanos);
+	}
+
+	/**
+	 * Gets the amount of recorded values.
+	 *
+	 * @return the amount of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Gets the sum of all recorded values.
+	 *
+	 * @return the sum in nanoseconds.
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * Gets the highest recorded value.
+	 *
+	 * @return the highest value in nanoseconds.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Gets the mean of all recorded values.
+	 *
+	 * @return the mean in nanoseconds or {@code 0} if nothing was recorded.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	/**
+	 * Gets the value at the given percentile. The result is the upper bound of
+	 * the bucket the percentile falls into.
+	 *
+	 * @param percentile the percentile between 0 and 100.
+	 * @return the value at the percentile in nanoseconds.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = 0;
+		long[] snapshot = new long[buckets.length()];
+		for (int i = 0; i < snapshot.length; i++)
+			total += snapshot[i] = buckets.get(i);
+		if (total == 0)
+			return 0;
+
+		long target = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= target)
+				return Math.min(upperBoundOf(i), getMax());
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < buckets.length(); i++)
+			buckets.set(i, 0);
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundOf(int index) {
+		if (index < SUB_BUCKETS)
+			return index;
+		int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKETS;
+		long lower = (1L << magnitude) + (subBucket << (magnitude - SUB_BUCKET_BITS));
+		return lower + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.metrics;
+
+/**
+ * Receives the current values of {@link ParticleMetrics} when they are
+ * collected. Implement this to bridge the metrics to a monitoring system
+ * like Prometheus.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ * @see ParticleMetrics#collect(MetricsExporter)
+ */
+public interface MetricsExporter {
+
+	/**
+	 * Receives the value of a monotonically increasing counter.
+	 *
+	 * @param name       the name of the counter. (e.g. {@code particle_packets_created_total})
+	 * @param labelName  the name of the label or {@code null} if the counter has none.
+	 * @param labelValue the value of the label or {@code null} if the counter has none.
+	 * @param value      the current value of the counter.
+	 */
+	void counter(String name, String labelName, String labelValue, long value);
+
+	/**
+	 * Receives a latency histogram.
+	 *
+	 * @param name      the name of the histogram.
+	 * @param histogram the {@link LatencyHistogram}.
+	 */
+	void histogram(String name, LatencyHistogram histogram);
+}
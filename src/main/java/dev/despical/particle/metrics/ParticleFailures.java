@@ -0,0 +1,301 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.metrics;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.utils.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Remembers why particles could not be created instead of silently returning
+ * {@code null} over and over again.
+ * <p>
+ * The first exception of every {@link ParticleEffect} and {@link ParticleData}
+ * type combination is logged once. Later attempts with equal data are
+ * short-circuited by {@link #isSuppressed(ParticleEffect, ParticleData)}, so a
+ * broken mapping no longer throws and swallows an exception for every
+ * particle, while a failure caused by one value, e.g. a material that is
+ * missing from the block registry, doesn't disable the other values. Once
+ * {@value #TYPE_WIDE_THRESHOLD} different values of a type failed, the failure
+ * is considered independent of the data and the whole type is skipped. Only
+ * thrown exceptions are recorded, invalid data like a non-block material in a
+ * block texture is not a failure.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleFailures {
+
+	private static final Logger LOGGER = Logger.getLogger("ParticleLib");
+	/**
+	 * The amount of different failed values after which every value of a data type is skipped.
+	 */
+	public static final int TYPE_WIDE_THRESHOLD = 16;
+
+	/**
+	 * Failures per {@link ParticleEffect} ordinal and data type. An entry stays
+	 * {@code null} until the first failure of that effect.
+	 */
+	private static final AtomicReferenceArray<Map<Class<?>, Failure>> FAILURES = new AtomicReferenceArray<>(ParticleEffect.values().length);
+	/**
+	 * Failures that happened while the library was loaded.
+	 */
+	private static final List<Failure> INIT_FAILURES = new CopyOnWriteArrayList<>();
+	/**
+	 * Failures that disabled a feature while the server was running.
+	 */
+	private static final List<Failure> RUNTIME_FAILURES = new CopyOnWriteArrayList<>();
+	/**
+	 * The last exception swallowed by a helper on the current thread that
+	 * wasn't attributed to a particle yet.
+	 */
+	private static final ThreadLocal<Throwable> PENDING = new ThreadLocal<>();
+
+	private ParticleFailures() {
+	}
+
+	/**
+	 * Remembers an exception that is swallowed by a helper returning {@code null}, so it
+	 * can be attributed to the particle that is built on the current thread.
+	 *
+	 * @param cause the swallowed exception.
+	 * @return always {@code null}.
+	 */
+	public static <T> T fail(Throwable cause) {
+		PENDING.set(cause);
+		return null;
+	}
+
+	/**
+	 * Removes and returns the exception remembered by {@link #fail(Throwable)}.
+	 *
+	 * @return the pending exception or {@code null} if there is none.
+	 */
+	public static Throwable pollPending() {
+		Throwable cause = PENDING.get();
+		if (cause != null)
+			PENDING.remove();
+		return cause;
+	}
+
+	/**
+	 * Checks if creating the given particle failed before. Suppressed attempts are counted.
+	 *
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param data   the {@link ParticleData} of the particle or {@code null}.
+	 * @return {@code true} if the particle shouldn't be built again.
+	 */
+	public static boolean isSuppressed(ParticleEffect effect, ParticleData data) {
+		Map<Class<?>, Failure> failures = FAILURES.get(effect.ordinal());
+		if (failures == null)
+			return false;
+		Failure failure = failures.get(typeOf(data));
+		if (failure == null || !failure.covers(data))
+			return false;
+		failure.suppressed.increment();
+		return true;
+	}
+
+	/**
+	 * Records a failure of the given particle. Only the first failure of every
+	 * combination is kept and logged, later failures only add the failed value.
+	 *
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @param data   the {@link ParticleData} of the particle or {@code null}.
+	 * @param cause  the exception that was thrown.
+	 */
+	public static void record(ParticleEffect effect, ParticleData data, Throwable cause) {
+		int index = effect.ordinal();
+		Map<Class<?>, Failure> failures = FAILURES.get(index);
+		if (failures == null) {
+			FAILURES.compareAndSet(index, null, new ConcurrentHashMap<>());
+			failures = FAILURES.get(index);
+		}
+
+		Class<?> type = typeOf(data);
+		Failure failure = new Failure(effect.name() + '/' + type.getSimpleName(), cause);
+		Failure previous = failures.putIfAbsent(type, failure);
+		if (previous == null)
+			LOGGER.log(Level.WARNING, "Could not create " + failure.name + " particles on Minecraft " + failure.version + ". Further attempts with the same data are skipped.", cause);
+		else
+			failure = previous;
+		failure.add(data);
+	}
+
+	/**
+	 * Records a failure that happened while the library was loaded.
+	 *
+	 * @param name  a short description of what failed.
+	 * @param cause the exception that was thrown.
+	 */
+	public static void recordInit(String name, Throwable cause) {
+		Failure failure = new Failure(name, cause);
+		INIT_FAILURES.add(failure);
+		LOGGER.log(Level.WARNING, "Could not initialize " + name + " on Minecraft " + failure.version + '.', cause);
+	}
+
+	/**
+	 * Records a failure that disabled a feature while the server was running. The
+	 * caller is expected to stop using the feature, so every failure is only recorded once.
+	 *
+	 * @param name  a short description of what failed.
+	 * @param cause the exception that was thrown.
+	 */
+	public static void recordRuntime(String name, Throwable cause) {
+		Failure failure = new Failure(name, cause);
+		RUNTIME_FAILURES.add(failure);
+		LOGGER.log(Level.WARNING, "Disabled " + name + " on Minecraft " + failure.version + " after it failed.", cause);
+	}
+
+	/**
+	 * Gets every recorded failure.
+	 *
+	 * @return an unmodifiable list of failures.
+	 */
+	public static List<Failure> getFailures() {
+		List<Failure> list = new ArrayList<>(INIT_FAILURES);
+		list.addAll(RUNTIME_FAILURES);
+		for (int i = 0; i < FAILURES.length(); i++) {
+			Map<Class<?>, Failure> failures = FAILURES.get(i);
+			if (failures != null)
+				list.addAll(failures.values());
+		}
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * Creates a human readable report of every recorded failure.
+	 *
+	 * @return the diagnostic report.
+	 */
+	public static String createReport() {
+		List<Failure> failures = getFailures();
+		StringBuilder builder = new StringBuilder("ParticleLib diagnostics (Minecraft ")
+				.append(ReflectionUtils.MINECRAFT_VERSION).append("): ")
+				.append(failures.size()).append(" failure(s)");
+		for (Failure failure : failures) {
+			builder.append("\n - ").append(failure.name)
+					.append(" | suppressed: ").append(failure.getSuppressed())
+					.append(" | cause: ").append(failure.cause);
+			StackTraceElement[] trace = failure.cause.getStackTrace();
+			if (trace.length > 0)
+				builder.append(" at ").append(trace[0]);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Forgets every recorded failure, so the particles are attempted again.
+	 */
+	public static void reset() {
+		for (int i = 0; i < FAILURES.length(); i++)
+			FAILURES.set(i, null);
+		INIT_FAILURES.clear();
+		RUNTIME_FAILURES.clear();
+	}
+
+	private static Class<?> typeOf(ParticleData data) {
+		return data == null ? Void.class : data.getClass();
+	}
+
+	/**
+	 * The first failure of a particle.
+	 */
+	public static final class Failure {
+
+		private final String name;
+		private final Throwable cause;
+		private final double version = ReflectionUtils.MINECRAFT_VERSION;
+		private final long timestamp = System.currentTimeMillis();
+		private final LongAdder suppressed = new LongAdder();
+		/**
+		 * The values that failed, until the failure is considered independent of the data.
+		 */
+		private final Set<ParticleData> values = ConcurrentHashMap.newKeySet();
+		private volatile boolean typeWide;
+
+		private Failure(String name, Throwable cause) {
+			this.name = name;
+			this.cause = cause;
+		}
+
+		private void add(ParticleData data) {
+			if (typeWide)
+				return;
+			if (data == null || values.size() >= TYPE_WIDE_THRESHOLD - 1) {
+				typeWide = true;
+				values.clear();
+				return;
+			}
+			values.add(data);
+		}
+
+		private boolean covers(ParticleData data) {
+			return typeWide || data != null && values.contains(data);
+		}
+
+		/**
+		 * @return the effect and data type, or the name of the failed initialization.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the first exception that was thrown.
+		 */
+		public Throwable getCause() {
+			return cause;
+		}
+
+		/**
+		 * @return the Minecraft version the failure happened on.
+		 */
+		public double getVersion() {
+			return version;
+		}
+
+		/**
+		 * @return the time of the failure in milliseconds.
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * @return the amount of attempts that were skipped because of this failure.
+		 */
+		public long getSuppressed() {
+			return suppressed.sum();
+		}
+	}
+}
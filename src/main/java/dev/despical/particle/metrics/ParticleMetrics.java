@@ -0,0 +1,295 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.metrics;
+
+import dev.despical.particle.ParticleEffect;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects counters and latencies of the particle pipeline. All counters are
+ * striped {@link LongAdder LongAdders}, so recording stays cheap even when
+ * particles are created on many threads at once.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ * @see MetricsExporter
+ */
+public final class ParticleMetrics {
+
+	/**
+	 * The amount of nms packets created per {@link ParticleEffect}, indexed by ordinal.
+	 */
+	private static final LongAdder[] PACKETS_CREATED = new LongAdder[ParticleEffect.values().length];
+	/**
+	 * Hits and misses of the nms data cache of {@link dev.despical.particle.data.ParticleData}.
+	 */
+	private static final LongAdder NMS_DATA_HITS = new LongAdder(), NMS_DATA_MISSES = new LongAdder();
+	/**
+	 * Sent and dropped packets per player.
+	 */
+	private static final Map<UUID, PlayerCounters> PLAYER_COUNTERS = new ConcurrentHashMap<>();
+	/**
+	 * The counters of players that are offline, which are never exported.
+	 */
+	private static final PlayerCounters DISCARDED = new PlayerCounters();
+	/**
+	 * The time it takes to build a single nms packet.
+	 */
+	private static final LatencyHistogram PACKET_BUILD_LATENCY = new LatencyHistogram();
+	/**
+	 * Emissions that were merged into cloud packets and the packets they were merged into.
+	 */
+	private static final LongAdder COALESCED_EMISSIONS = new LongAdder(), COALESCED_PACKETS = new LongAdder();
+	/**
+	 * Packets that were dropped because they were already sent in the same tick.
+	 */
+	private static final LongAdder DEDUPLICATED = new LongAdder();
+	/**
+	 * Emissions that were enqueued, rejected by a full queue, made their producer wait, drained and culled by the drain.
+	 */
+	private static final LongAdder QUEUE_ENQUEUED = new LongAdder(), QUEUE_REJECTED = new LongAdder(), QUEUE_BLOCKED = new LongAdder(),
+		QUEUE_DRAINED = new LongAdder(), QUEUE_CULLED = new LongAdder();
+
+	private static volatile boolean enabled = true;
+
+	static {
+		for (int i = 0; i < PACKETS_CREATED.length; i++)
+			PACKETS_CREATED[i] = new LongAdder();
+	}
+
+	private ParticleMetrics() {
+	}
+
+	/**
+	 * Checks if metrics are recorded.
+	 *
+	 * @return {@code true} if metrics are recorded.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the recording of metrics.
+	 *
+	 * @param enabled whether metrics should be recorded.
+	 */
+	public static void setEnabled(boolean enabled) {
+		ParticleMetrics.enabled = enabled;
+	}
+
+	/**
+	 * Records a newly created nms packet.
+	 *
+	 * @param effect the {@link ParticleEffect} of the packet.
+	 * @param nanos  the time it took to build the packet.
+	 */
+	public static void recordPacketCreated(ParticleEffect effect, long nanos) {
+		if (!enabled)
+			return;
+		PACKETS_CREATED[effect.ordinal()].increment();
+		PACKET_BUILD_LATENCY.record(nanos);
+	}
+
+	/**
+	 * Records a lookup in the nms data cache.
+	 *
+	 * @param hit whether the nms data was already cached.
+	 */
+	public static void recordNMSDataLookup(boolean hit) {
+		if (!enabled)
+			return;
+		(hit ? NMS_DATA_HITS : NMS_DATA_MISSES).increment();
+	}
+
+	/**
+	 * Records packets that were sent to a player.
+	 *
+	 * @param player the receiving {@link Player}.
+	 * @param amount the amount of packets.
+	 */
+	public static void recordSent(Player player, int amount) {
+		if (enabled)
+			countersOf(player).sent.add(amount);
+	}
+
+	/**
+	 * Records packets that couldn't be sent to a player.
+	 *
+	 * @param player the {@link Player} that should have received the packets.
+	 * @param amount the amount of packets.
+	 */
+	public static void recordDropped(Player player, int amount) {
+		if (enabled)
+			countersOf(player).dropped.add(amount);
+	}
+
+	/**
+	 * Records emissions that were merged into a single packet.
+	 *
+	 * @param emissions the amount of merged emissions.
+	 */
+	public static void recordCoalesced(int emissions) {
+		if (!enabled)
+			return;
+		COALESCED_EMISSIONS.add(emissions);
+		COALESCED_PACKETS.increment();
+	}
+
+	/**
+	 * Records a packet that was dropped because it was already sent in the same tick.
+	 */
+	public static void recordDeduplicated() {
+		if (enabled)
+			DEDUPLICATED.increment();
+	}
+
+	/**
+	 * Records an emission offered to an {@link dev.despical.particle.emission.EmissionQueue}.
+	 *
+	 * @param accepted whether the emission was enqueued or rejected because the queue was full.
+	 * @param blocked  whether the producer had to wait for free space.
+	 */
+	public static void recordQueueOffer(boolean accepted, boolean blocked) {
+		if (!enabled)
+			return;
+		(accepted ? QUEUE_ENQUEUED : QUEUE_REJECTED).increment();
+		if (blocked)
+			QUEUE_BLOCKED.increment();
+	}
+
+	/**
+	 * Records the emissions taken out of an {@link dev.despical.particle.emission.EmissionQueue} by a drain.
+	 *
+	 * @param drained the amount of drained emissions.
+	 * @param culled  the amount of drained emissions that no player was close enough to see.
+	 */
+	public static void recordQueueDrained(int drained, int culled) {
+		if (!enabled)
+			return;
+		QUEUE_DRAINED.add(drained);
+		QUEUE_CULLED.add(culled);
+	}
+
+	/**
+	 * Removes the counters of a player, e.g. once they left the server. This is done
+	 * automatically when a player quits after
+	 * {@link dev.despical.particle.utils.SchedulerUtils#init(org.bukkit.plugin.Plugin)} was called.
+	 *
+	 * @param uuid the {@link UUID} of the player.
+	 */
+	public static void forget(UUID uuid) {
+		PLAYER_COUNTERS.remove(uuid);
+	}
+
+	/**
+	 * Gets the amount of nms packets created for the given {@link ParticleEffect}.
+	 *
+	 * @param effect the {@link ParticleEffect}.
+	 * @return the amount of created packets.
+	 */
+	public static long getPacketsCreated(ParticleEffect effect) {
+		return PACKETS_CREATED[effect.ordinal()].sum();
+	}
+
+	/**
+	 * Gets the latency histogram of packet creation.
+	 *
+	 * @return the {@link LatencyHistogram} of packet creation.
+	 */
+	public static LatencyHistogram getPacketBuildLatency() {
+		return PACKET_BUILD_LATENCY;
+	}
+
+	/**
+	 * Passes the current value of every metric to the given {@link MetricsExporter}.
+	 *
+	 * @param exporter the {@link MetricsExporter} that receives the metrics.
+	 */
+	public static void collect(MetricsExporter exporter) {
+		for (ParticleEffect effect : ParticleEffect.VALUES) {
+			long created = PACKETS_CREATED[effect.ordinal()].sum();
+			if (created != 0)
+				exporter.counter("particle_packets_created_total", "effect", effect.name(), created);
+		}
+
+		exporter.counter("particle_nms_data_cache_hits_total", null, null, NMS_DATA_HITS.sum());
+		exporter.counter("particle_nms_data_cache_misses_total", null, null, NMS_DATA_MISSES.sum());
+		exporter.counter("particle_coalesced_emissions_total", null, null, COALESCED_EMISSIONS.sum());
+		exporter.counter("particle_coalesced_packets_total", null, null, COALESCED_PACKETS.sum());
+		exporter.counter("particle_deduplicated_packets_total", null, null, DEDUPLICATED.sum());
+		exporter.counter("particle_queue_enqueued_total", null, null, QUEUE_ENQUEUED.sum());
+		exporter.counter("particle_queue_rejected_total", null, null, QUEUE_REJECTED.sum());
+		exporter.counter("particle_queue_blocked_total", null, null, QUEUE_BLOCKED.sum());
+		exporter.counter("particle_queue_drained_total", null, null, QUEUE_DRAINED.sum());
+		exporter.counter("particle_queue_culled_total", null, null, QUEUE_CULLED.sum());
+
+		PLAYER_COUNTERS.forEach((uuid, counters) -> {
+			exporter.counter("particle_packets_sent_total", "player", uuid.toString(), counters.sent.sum());
+			exporter.counter("particle_packets_dropped_total", "player", uuid.toString(), counters.dropped.sum());
+		});
+
+		for (ParticleFailures.Failure failure : ParticleFailures.getFailures())
+			exporter.counter("particle_suppressed_failures_total", "particle", failure.getName(), failure.getSuppressed());
+
+		exporter.histogram("particle_packet_build_latency_nanoseconds", PACKET_BUILD_LATENCY);
+	}
+
+	/**
+	 * Resets every metric.
+	 */
+	public static void reset() {
+		for (LongAdder adder : PACKETS_CREATED)
+			adder.reset();
+		NMS_DATA_HITS.reset();
+		NMS_DATA_MISSES.reset();
+		COALESCED_EMISSIONS.reset();
+		COALESCED_PACKETS.reset();
+		DEDUPLICATED.reset();
+		QUEUE_ENQUEUED.reset();
+		QUEUE_REJECTED.reset();
+		QUEUE_BLOCKED.reset();
+		QUEUE_DRAINED.reset();
+		QUEUE_CULLED.reset();
+		PLAYER_COUNTERS.clear();
+		PACKET_BUILD_LATENCY.reset();
+	}
+
+	private static PlayerCounters countersOf(Player player) {
+		PlayerCounters counters = PLAYER_COUNTERS.get(player.getUniqueId());
+		if (counters != null)
+			return counters;
+
+		// Async sends can still finish after a player quit, they must not bring the forgotten counters back.
+		if (!player.isOnline())
+			return DISCARDED;
+		return PLAYER_COUNTERS.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerCounters());
+	}
+
+	private static final class PlayerCounters {
+
+		private final LongAdder sent = new LongAdder(), dropped = new LongAdder();
+	}
+}
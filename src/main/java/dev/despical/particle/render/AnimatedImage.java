@@ -0,0 +1,199 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.render;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * An animated image, e.g. a GIF, whose frames are streamed from disk. A frame is
+ * decoded and rendered by the {@link ImageRenderer} the first time it's requested
+ * and kept as long as there is enough memory, so long animations don't have to
+ * fit into the heap at once.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class AnimatedImage implements Closeable {
+
+	private static final String GIF_METADATA_FORMAT = "javax_imageio_gif_image_1.0";
+
+	private final ImageRenderer renderer;
+	private final ImageInputStream stream;
+	private final ImageReader reader;
+	private final int frameCount;
+	private final SoftReference<ParticleImage>[] frames;
+	private final int[] delays;
+
+	/**
+	 * The frames are drawn on top of the previous ones, so they have to be decoded in order.
+	 */
+	private BufferedImage canvas;
+	private int nextFrame;
+	private int[] clearArea;
+
+	@SuppressWarnings("unchecked")
+	AnimatedImage(ImageRenderer renderer, Path path) throws IOException {
+		this.renderer = renderer;
+		this.stream = ImageIO.createImageInputStream(path.toFile());
+		if (stream == null)
+			throw new IOException("Can't open image: " + path);
+
+		Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+		if (!readers.hasNext()) {
+			stream.close();
+			throw new IOException("Unsupported image format: " + path);
+		}
+
+		this.reader = readers.next();
+		this.reader.setInput(stream, false, false);
+		this.frameCount = reader.getNumImages(true);
+		this.frames = new SoftReference[frameCount];
+		this.delays = new int[frameCount];
+	}
+
+	/**
+	 * Gets the amount of frames of the animation.
+	 *
+	 * @return the amount of frames.
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Gets how long the given frame is shown.
+	 *
+	 * @param index the index of the frame.
+	 * @return the delay of the frame in ticks, at least one.
+	 * @throws IOException if the metadata of the frame can't be read.
+	 */
+	public synchronized int getDelay(int index) throws IOException {
+		if (delays[index] == 0) {
+			Node control = getNode(reader.getImageMetadata(index), "GraphicControlExtension");
+			// The delay of a GIF frame is stored in hundredths of a second.
+			int delay = control == null ? 10 : parseAttribute(control, "delayTime");
+			delays[index] = Math.max(1, Math.round(delay / 5F));
+		}
+		return delays[index];
+	}
+
+	/**
+	 * Gets the rendered frame at the given index, decoding it if it isn't cached.
+	 *
+	 * @param index the index of the frame.
+	 * @return the rendered {@link ParticleImage} of the frame.
+	 * @throws IOException if the frame can't be decoded.
+	 */
+	public synchronized ParticleImage getFrame(int index) throws IOException {
+		if (index < 0 || index >= frameCount)
+			throw new IndexOutOfBoundsException("Frame " + index + " of " + frameCount);
+
+		SoftReference<ParticleImage> reference = frames[index];
+		ParticleImage frame = reference == null ? null : reference.get();
+		if (frame != null)
+			return frame;
+
+		if (index < nextFrame) {
+			canvas = null;
+			nextFrame = 0;
+		}
+
+		while (nextFrame <= index) {
+			frame = renderer.render(decode(nextFrame));
+			frames[nextFrame++] = new SoftReference<>(frame);
+		}
+		return frame;
+	}
+
+	private BufferedImage decode(int index) throws IOException {
+		BufferedImage image = reader.read(index);
+		IIOMetadata metadata = reader.getImageMetadata(index);
+		Node descriptor = getNode(metadata, "ImageDescriptor");
+		int left = descriptor == null ? 0 : parseAttribute(descriptor, "imageLeftPosition");
+		int top = descriptor == null ? 0 : parseAttribute(descriptor, "imageTopPosition");
+
+		if (canvas == null) {
+			canvas = new BufferedImage(Math.max(reader.getWidth(0), left + image.getWidth()), Math.max(reader.getHeight(0), top + image.getHeight()), BufferedImage.TYPE_INT_ARGB);
+			clearArea = null;
+		}
+
+		Graphics2D graphics = canvas.createGraphics();
+		try {
+			if (clearArea != null) {
+				graphics.setComposite(AlphaComposite.Clear);
+				graphics.fillRect(clearArea[0], clearArea[1], clearArea[2], clearArea[3]);
+				graphics.setComposite(AlphaComposite.SrcOver);
+				clearArea = null;
+			}
+			graphics.drawImage(image, left, top, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		Node control = getNode(metadata, "GraphicControlExtension");
+		if (control != null && "restoreToBackgroundColor".equals(getAttribute(control, "disposalMethod")))
+			clearArea = new int[] {left, top, image.getWidth(), image.getHeight()};
+		return canvas;
+	}
+
+	private static Node getNode(IIOMetadata metadata, String name) {
+		if (metadata == null || !GIF_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName()))
+			return null;
+
+		for (Node node = metadata.getAsTree(GIF_METADATA_FORMAT).getFirstChild(); node != null; node = node.getNextSibling()) {
+			if (name.equals(node.getNodeName()))
+				return node;
+		}
+		return null;
+	}
+
+	private static String getAttribute(Node node, String name) {
+		Node attribute = node.getAttributes().getNamedItem(name);
+		return attribute == null ? null : attribute.getNodeValue();
+	}
+
+	private static int parseAttribute(Node node, String name) {
+		String value = getAttribute(node, name);
+		try {
+			return value == null ? 0 : Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			return 0;
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		reader.dispose();
+		stream.close();
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.render;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustData;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts images into {@link ParticleImage ParticleImages} made of dust particles.
+ * The colors of an image are quantized to a bounded palette, so an image only needs
+ * one {@link ParticlePacket} per palette entry. These packets are shared between all
+ * images that use the same color and dust size.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ImageRenderer {
+
+	/**
+	 * The dust packets of every used color and size.
+	 */
+	private static final Map<Long, ParticlePacket> PACKETS = new ConcurrentHashMap<>();
+
+	private int maxColors = 64;
+	private int alphaThreshold = 128;
+	private int step = 1;
+	private float pixelSize = 0.1F;
+	private float dustSize = 0.75F;
+
+	/**
+	 * Sets the maximum amount of colors of a rendered image.
+	 *
+	 * @param maxColors the size of the palette. <b>(Range 1-256)</b>
+	 * @return this renderer.
+	 */
+	public ImageRenderer maxColors(int maxColors) {
+		if (maxColors < 1 || maxColors > 256)
+			throw new IllegalArgumentException("The palette size must be between 1 and 256");
+		this.maxColors = maxColors;
+		return this;
+	}
+
+	/**
+	 * Sets the alpha value below which pixels are skipped.
+	 *
+	 * @param alphaThreshold the minimum alpha of a pixel. <b>(Range 0-255)</b>
+	 * @return this renderer.
+	 */
+	public ImageRenderer alphaThreshold(int alphaThreshold) {
+		this.alphaThreshold = Math.max(0, Math.min(255, alphaThreshold));
+		return this;
+	}
+
+	/**
+	 * Sets the sampling step, e.g. a step of 2 only renders every second pixel of every second row.
+	 *
+	 * @param step the distance between two sampled pixels of the image.
+	 * @return this renderer.
+	 */
+	public ImageRenderer step(int step) {
+		if (step < 1)
+			throw new IllegalArgumentException("The step must be at least one pixel");
+		this.step = step;
+		return this;
+	}
+
+	/**
+	 * Sets the distance between two rendered pixels in blocks.
+	 *
+	 * @param pixelSize the size of a rendered pixel.
+	 * @return this renderer.
+	 */
+	public ImageRenderer pixelSize(float pixelSize) {
+		this.pixelSize = pixelSize;
+		return this;
+	}
+
+	/**
+	 * Sets the size of the dust particles.
+	 *
+	 * @param dustSize the size of the particles. <b>(Range 0.0-4.0)</b>
+	 * @return this renderer.
+	 */
+	public ImageRenderer dustSize(float dustSize) {
+		this.dustSize = dustSize;
+		return this;
+	}
+
+	/**
+	 * Reads and renders the image at the given path.
+	 *
+	 * @param path the {@link Path} of the image.
+	 * @return the rendered {@link ParticleImage}.
+	 * @throws IOException if the image can't be read.
+	 */
+	public ParticleImage render(Path path) throws IOException {
+		BufferedImage image;
+		try (InputStream stream = Files.newInputStream(path)) {
+			image = ImageIO.read(stream);
+		}
+		if (image == null)
+			throw new IOException("Unsupported image format: " + path);
+		return render(image);
+	}
+
+	/**
+	 * Opens the given animated image, e.g. a GIF. Its frames are only decoded and
+	 * rendered when they are requested.
+	 *
+	 * @param path the {@link Path} of the animated image.
+	 * @return the opened {@link AnimatedImage}, which has to be closed after use.
+	 * @throws IOException if the image can't be opened.
+	 */
+	public AnimatedImage renderAnimated(Path path) throws IOException {
+		return new AnimatedImage(this, path);
+	}
+
+	/**
+	 * Renders the given image onto a plane centered on its origin.
+	 *
+	 * @param image the {@link BufferedImage} that should be rendered.
+	 * @return the rendered {@link ParticleImage}.
+	 */
+	public ParticleImage render(BufferedImage image) {
+		int width = image.getWidth(), height = image.getHeight();
+		int columns = (width + step - 1) / step, rows = (height + step - 1) / step;
+		int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+		// A histogram of the colors reduced to 5 bits per channel, every bin sums up its colors to average them later.
+		int[] counts = new int[1 << 15];
+		long[] sums = new long[3 << 15];
+		int[] cells = new int[columns * rows], bins = new int[columns * rows];
+		int count = 0, used = 0;
+		for (int row = 0; row < rows; row++) {
+			for (int column = 0; column < columns; column++) {
+				int argb = pixels[row * step * width + column * step];
+				if (argb >>> 24 < alphaThreshold)
+					continue;
+
+				int red = argb >> 16 & 0xFF, green = argb >> 8 & 0xFF, blue = argb & 0xFF;
+				int bin = red >> 3 << 10 | green >> 3 << 5 | blue >> 3;
+				if (counts[bin]++ == 0)
+					used++;
+				sums[bin * 3] += red;
+				sums[bin * 3 + 1] += green;
+				sums[bin * 3 + 2] += blue;
+				cells[count] = row * columns + column;
+				bins[count++] = bin;
+			}
+		}
+
+		// The most frequent bins become the palette, ordered by their popularity.
+		long[] popularity = new long[used];
+		for (int bin = 0, i = 0; bin < counts.length; bin++) {
+			if (counts[bin] != 0)
+				popularity[i++] = (long) counts[bin] << 15 | bin;
+		}
+		Arrays.sort(popularity);
+
+		int size = Math.min(maxColors, used);
+		int[] palette = new int[size];
+		int[] paletteIndex = new int[1 << 15];
+		Arrays.fill(paletteIndex, -1);
+		for (int i = 0; i < size; i++) {
+			int bin = (int) (popularity[used - 1 - i] & 0x7FFF);
+			palette[i] = averageColor(bin, counts, sums);
+			paletteIndex[bin] = i;
+		}
+		for (int i = 0; i < used - size; i++) {
+			int bin = (int) (popularity[i] & 0x7FFF);
+			paletteIndex[bin] = nearest(palette, averageColor(bin, counts, sums));
+		}
+
+		// Sorting the points by their palette index lets consecutive points share a packet.
+		int[] offsets = new int[size + 1];
+		for (int i = 0; i < count; i++)
+			offsets[paletteIndex[bins[i]] + 1]++;
+		for (int i = 0; i < size; i++)
+			offsets[i + 1] += offsets[i];
+
+		float[] points = new float[count * 2];
+		byte[] indices = new byte[count];
+		float centerX = (columns - 1) / 2F, centerY = (rows - 1) / 2F;
+		for (int i = 0; i < count; i++) {
+			int index = paletteIndex[bins[i]], slot = offsets[index]++;
+			points[slot * 2] = (cells[i] % columns - centerX) * pixelSize;
+			points[slot * 2 + 1] = (centerY - cells[i] / columns) * pixelSize;
+			indices[slot] = (byte) index;
+		}
+
+		ParticlePacket[] packets = new ParticlePacket[size];
+		for (int i = 0; i < size; i++)
+			packets[i] = getPacket(palette[i], dustSize);
+		return new ParticleImage(points, indices, packets, count, columns * pixelSize, rows * pixelSize);
+	}
+
+	private static int averageColor(int bin, int[] counts, long[] sums) {
+		int count = counts[bin];
+		return (int) (sums[bin * 3] / count) << 16 | (int) (sums[bin * 3 + 1] / count) << 8 | (int) (sums[bin * 3 + 2] / count);
+	}
+
+	private static int nearest(int[] palette, int rgb) {
+		int red = rgb >> 16 & 0xFF, green = rgb >> 8 & 0xFF, blue = rgb & 0xFF;
+		int nearest = 0, minDistance = Integer.MAX_VALUE;
+		for (int i = 0; i < palette.length; i++) {
+			int dr = (palette[i] >> 16 & 0xFF) - red, dg = (palette[i] >> 8 & 0xFF) - green, db = (palette[i] & 0xFF) - blue;
+			// Weighted by the sensitivity of the eye to every channel.
+			int distance = 2 * dr * dr + 4 * dg * dg + 3 * db * db;
+			if (distance < minDistance) {
+				minDistance = distance;
+				nearest = i;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Gets the shared dust packet of the given color and size. The data of the
+	 * packet is resolved once, so displaying it doesn't convert it again.
+	 *
+	 * @param rgb  the color of the dust.
+	 * @param size the size of the dust.
+	 * @return the cached {@link ParticlePacket}.
+	 */
+	static ParticlePacket getPacket(int rgb, float size) {
+		return PACKETS.computeIfAbsent((long) rgb << 32 | Float.floatToIntBits(size) & 0xFFFFFFFFL, key -> {
+			ParticleData data = new DustData(rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF, size);
+			data.setEffect(ParticleEffect.REDSTONE);
+			if (ParticleEffect.USE_API)
+				data.getBukkitData();
+			else
+				data.getNMSData();
+			return new ParticlePacket(ParticleEffect.REDSTONE, 0, 0, 0, 0, 1, data);
+		});
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.render;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.NMSUtils;
+import org.bukkit.Location;
+
+/**
+ * An immutable image rendered by the {@link ImageRenderer}. Every point is stored
+ * as its x and y coordinate on the plane of the image and the index of its color
+ * in the palette, so displaying the image only has to transform the coordinates.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleImage {
+
+	/**
+	 * The x and y coordinates of every point, sorted by their palette index.
+	 */
+	private final float[] points;
+	private final byte[] indices;
+	private final ParticlePacket[] palette;
+	private final int count;
+	private final float width, height;
+
+	ParticleImage(float[] points, byte[] indices, ParticlePacket[] palette, int count, float width, float height) {
+		this.points = points;
+		this.indices = indices;
+		this.palette = palette;
+		this.count = count;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Gets the amount of points of the image.
+	 *
+	 * @return the amount of points.
+	 */
+	public int getPointCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the amount of colors of the image.
+	 *
+	 * @return the size of the palette.
+	 */
+	public int getPaletteSize() {
+		return palette.length;
+	}
+
+	/**
+	 * Gets the {@link ParticlePacket} of the given palette entry.
+	 *
+	 * @param index the index in the palette.
+	 * @return the packet the points of this color are displayed with.
+	 */
+	public ParticlePacket getPacket(int index) {
+		return palette[index];
+	}
+
+	/**
+	 * Gets the width of the unscaled image in blocks.
+	 *
+	 * @return the width of the image.
+	 */
+	public float getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the height of the unscaled image in blocks.
+	 *
+	 * @return the height of the image.
+	 */
+	public float getHeight() {
+		return height;
+	}
+
+	/**
+	 * Displays the image upright, readable when looking in the direction of the given {@link Location}.
+	 *
+	 * @param origin   the {@link Location} the image is centered at.
+	 * @param audience the {@link Audience} that should see the image.
+	 */
+	public void render(Location origin, Audience audience) {
+		render(origin, 1, origin.getYaw() + 180, 0, audience);
+	}
+
+	/**
+	 * Displays the image transformed by the given scale and rotation. Without any
+	 * rotation the image lies on the x-y plane, facing south. The pitch tilts the
+	 * image backwards around its horizontal axis before the yaw rotates it clockwise
+	 * around the y axis, just like the rotation of an entity.
+	 *
+	 * @param origin   the {@link Location} the image is centered at.
+	 * @param scale    the scale of the image.
+	 * @param yaw      the rotation around the y axis in degrees.
+	 * @param pitch    the rotation around the horizontal axis in degrees.
+	 * @param audience the {@link Audience} that should see the image.
+	 */
+	public void render(Location origin, double scale, float yaw, float pitch, Audience audience) {
+		double[] positions = transform(points, count, origin, scale, yaw, pitch);
+		NMSUtils.display(palette, indices, positions, count, origin, audience);
+	}
+
+	/**
+	 * Transforms the given plane coordinates into absolute positions. Without any
+	 * rotation the plane is the x-y plane facing south, the pitch tilts it backwards
+	 * around its horizontal axis before the yaw rotates it clockwise around the y axis.
+	 *
+	 * @param points the x and y coordinates of every point on the plane.
+	 * @param count  the amount of points.
+	 * @param origin the {@link Location} the origin of the plane is placed at.
+	 * @param scale  the scale of the plane.
+	 * @param yaw    the rotation around the y axis in degrees.
+	 * @param pitch  the rotation around the horizontal axis in degrees.
+	 * @return the x, y and z coordinates of every point.
+	 */
+	static double[] transform(float[] points, int count, Location origin, double scale, float yaw, float pitch) {
+		double yawRadians = Math.toRadians(yaw), pitchRadians = Math.toRadians(pitch);
+		double cosYaw = Math.cos(yawRadians), sinYaw = Math.sin(yawRadians);
+		double cosPitch = Math.cos(pitchRadians), sinPitch = Math.sin(pitchRadians);
+
+		// The columns of the rotation, so every point only needs two multiplications per axis.
+		double rightX = cosYaw * scale, rightZ = sinYaw * scale;
+		double upX = sinPitch * sinYaw * scale, upY = cosPitch * scale, upZ = -sinPitch * cosYaw * scale;
+		double x = origin.getX(), y = origin.getY(), z = origin.getZ();
+
+		double[] positions = new double[count * 3];
+		for (int i = 0; i < count; i++) {
+			float px = points[i * 2], py = points[i * 2 + 1];
+			positions[i * 3] = x + px * rightX + py * upX;
+			positions[i * 3 + 1] = y + py * upY;
+			positions[i * 3 + 2] = z + px * rightZ + py * upZ;
+		}
+		return positions;
+	}
+}
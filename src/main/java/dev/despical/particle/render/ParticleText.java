@@ -0,0 +1,145 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.render;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustColorTransitionData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.color.RegularColor;
+import dev.despical.particle.utils.NMSUtils;
+import org.bukkit.Location;
+
+import java.awt.*;
+
+/**
+ * An immutable text laid out by the {@link TextRenderer}. The points are stored
+ * as their x and y coordinates on the plane of the text, so displaying the text
+ * only has to transform the coordinates.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleText {
+
+	/**
+	 * The x and y coordinates of every point.
+	 */
+	private final float[] points;
+	private final int count;
+	private final float width, height;
+
+	ParticleText(float[] points, int count, float width, float height) {
+		this.points = points;
+		this.count = count;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Gets the amount of points of the text.
+	 *
+	 * @return the amount of points.
+	 */
+	public int getPointCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the width of the unscaled text in blocks.
+	 *
+	 * @return the width of the text.
+	 */
+	public float getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the height of the unscaled text in blocks.
+	 *
+	 * @return the height of the text.
+	 */
+	public float getHeight() {
+		return height;
+	}
+
+	/**
+	 * Displays the text upright in the given color, readable when looking in the
+	 * direction of the given {@link Location}.
+	 *
+	 * @param origin   the {@link Location} the text is centered at.
+	 * @param effect   the {@link PropertyType#COLORABLE} {@link ParticleEffect} of the text, except {@link ParticleEffect#NOTE}.
+	 * @param color    the {@link Color} of the text.
+	 * @param audience the {@link Audience} that should see the text.
+	 */
+	public void render(Location origin, ParticleEffect effect, Color color, Audience audience) {
+		render(origin, createPacket(effect, color), 1, origin.getYaw() + 180, 0, audience);
+	}
+
+	/**
+	 * Displays every point of the text with the given {@link ParticlePacket}. The
+	 * scale and rotation are applied like in {@link ParticleImage#render(Location, double, float, float, Audience)}.
+	 *
+	 * @param origin   the {@link Location} the text is centered at.
+	 * @param packet   the {@link ParticlePacket} every point is displayed with.
+	 * @param scale    the scale of the text.
+	 * @param yaw      the rotation around the y axis in degrees.
+	 * @param pitch    the rotation around the horizontal axis in degrees.
+	 * @param audience the {@link Audience} that should see the text.
+	 */
+	public void render(Location origin, ParticlePacket packet, double scale, float yaw, float pitch, Audience audience) {
+		double[] positions = ParticleImage.transform(points, count, origin, scale, yaw, pitch);
+		NMSUtils.display(new ParticlePacket[] {packet}, null, positions, count, origin, audience);
+	}
+
+	/**
+	 * Creates a {@link ParticlePacket} of the given color. Dust effects get a size
+	 * of one and the color transition fades into the same color, plain dust packets
+	 * are shared with the {@link ImageRenderer}.
+	 *
+	 * @param effect the {@link PropertyType#COLORABLE} {@link ParticleEffect}, except
+	 *               {@link ParticleEffect#NOTE} which can't show an arbitrary color.
+	 * @param color  the {@link Color} of the particle.
+	 * @return the created packet.
+	 */
+	public static ParticlePacket createPacket(ParticleEffect effect, Color color) {
+		if (!effect.hasProperty(PropertyType.COLORABLE) || effect == ParticleEffect.NOTE)
+			throw new IllegalArgumentException(effect + " can't be displayed in an arbitrary color");
+
+		if (effect == ParticleEffect.REDSTONE)
+			return ImageRenderer.getPacket(color.getRGB() & 0xFFFFFF, 1F);
+
+		ParticleData data;
+		if (effect == ParticleEffect.DUST_COLOR_TRANSITION)
+			data = new DustColorTransitionData(color, color, 1F);
+		else if (effect.hasProperty(PropertyType.DUST))
+			data = new DustData(color, 1F);
+		else
+			data = new RegularColor(color);
+
+		data.setEffect(effect);
+		if (!effect.isCorrectData(data))
+			throw new IllegalArgumentException(effect + " can't be displayed in an arbitrary color");
+		return new ParticlePacket(effect, 0, 0, 0, 0, 1, data);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.render;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lays out text as {@link ParticleText}. Every glyph of the font is rasterized
+ * once into a set of points, which are kept in a bounded least recently used
+ * cache, so laying out a string only has to copy the points of its glyphs.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class TextRenderer {
+
+	private final Font font;
+	private final FontMetrics metrics;
+	private final float pixelSize;
+	private final Map<Integer, Glyph> glyphs;
+
+	/**
+	 * Creates a new {@link TextRenderer} that keeps up to 256 glyphs.
+	 *
+	 * @param font      the {@link Font} the text is rasterized with, its size is the height of a line in pixels.
+	 * @param pixelSize the distance between two rendered pixels in blocks.
+	 */
+	public TextRenderer(Font font, float pixelSize) {
+		this(font, pixelSize, 256);
+	}
+
+	/**
+	 * Creates a new {@link TextRenderer}.
+	 *
+	 * @param font      the {@link Font} the text is rasterized with, its size is the height of a line in pixels.
+	 * @param pixelSize the distance between two rendered pixels in blocks.
+	 * @param cacheSize the maximum amount of cached glyphs.
+	 */
+	public TextRenderer(Font font, float pixelSize, int cacheSize) {
+		if (cacheSize < 1)
+			throw new IllegalArgumentException("The cache has to hold at least one glyph");
+
+		this.font = Objects.requireNonNull(font);
+		this.pixelSize = pixelSize;
+		this.glyphs = new LinkedHashMap<Integer, Glyph>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Glyph> eldest) {
+				return size() > cacheSize;
+			}
+		};
+
+		Graphics2D graphics = new BufferedImage(1, 1, BufferedImage.TYPE_BYTE_GRAY).createGraphics();
+		try {
+			this.metrics = graphics.getFontMetrics(font);
+		} finally {
+			graphics.dispose();
+		}
+	}
+
+	/**
+	 * Lays out the given text. Every line is centered horizontally and the whole
+	 * text is centered vertically on the origin. Kerning and ligatures aren't applied.
+	 *
+	 * @param text the text that should be laid out, lines are separated by {@code \n}.
+	 * @return the laid out {@link ParticleText}.
+	 */
+	public ParticleText layout(String text) {
+		String[] lines = text.split("\n", -1);
+		Glyph[][] lineGlyphs = new Glyph[lines.length][];
+		int[] lineWidths = new int[lines.length];
+		int count = 0, width = 0;
+
+		synchronized (glyphs) {
+			for (int line = 0; line < lines.length; line++) {
+				int[] codePoints = lines[line].codePoints().toArray();
+				Glyph[] row = lineGlyphs[line] = new Glyph[codePoints.length];
+				for (int i = 0; i < codePoints.length; i++) {
+					Glyph glyph = glyphs.get(codePoints[i]);
+					if (glyph == null)
+						glyphs.put(codePoints[i], glyph = rasterize(codePoints[i]));
+
+					row[i] = glyph;
+					count += glyph.points.length / 2;
+					lineWidths[line] += glyph.advance;
+				}
+				width = Math.max(width, lineWidths[line]);
+			}
+		}
+
+		int lineHeight = metrics.getHeight(), height = lines.length * lineHeight;
+		float[] points = new float[count * 2];
+		int index = 0;
+		for (int line = 0; line < lines.length; line++) {
+			float penX = -lineWidths[line] / 2F, baseline = height / 2F - metrics.getAscent() - line * lineHeight;
+			for (Glyph glyph : lineGlyphs[line]) {
+				float[] glyphPoints = glyph.points;
+				for (int i = 0; i < glyphPoints.length; i += 2) {
+					points[index++] = (penX + glyphPoints[i]) * pixelSize;
+					points[index++] = (baseline + glyphPoints[i + 1]) * pixelSize;
+				}
+				penX += glyph.advance;
+			}
+		}
+		return new ParticleText(points, count, width * pixelSize, height * pixelSize);
+	}
+
+	/**
+	 * Gets the amount of currently cached glyphs.
+	 *
+	 * @return the amount of cached glyphs.
+	 */
+	public int getCachedGlyphs() {
+		synchronized (glyphs) {
+			return glyphs.size();
+		}
+	}
+
+	private Glyph rasterize(int codePoint) {
+		int advance = metrics.charWidth(codePoint), ascent = metrics.getAscent(), height = ascent + metrics.getDescent();
+		if (advance <= 0 || height <= 0 || Character.isWhitespace(codePoint))
+			return new Glyph(new float[0], Math.max(0, advance));
+
+		// Glyphs may overhang their advance, e.g. italic fonts, so a margin of half a line is rasterized on both sides.
+		int margin = height / 2, imageWidth = advance + margin * 2;
+		BufferedImage image = new BufferedImage(imageWidth, height, BufferedImage.TYPE_BYTE_GRAY);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+			graphics.setFont(font);
+			graphics.drawString(new String(Character.toChars(codePoint)), margin, ascent);
+		} finally {
+			graphics.dispose();
+		}
+
+		byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+		int count = 0;
+		for (byte pixel : pixels) {
+			if (pixel != 0)
+				count++;
+		}
+
+		// Relative to the pen position on the baseline, upwards is positive.
+		float[] points = new float[count * 2];
+		for (int i = 0, index = 0; i < pixels.length; i++) {
+			if (pixels[i] == 0)
+				continue;
+
+			points[index++] = i % imageWidth - margin;
+			points[index++] = ascent - i / imageWidth;
+		}
+		return new Glyph(points, advance);
+	}
+
+	/**
+	 * The rasterized points of a single glyph.
+	 */
+	private static final class Glyph {
+
+		private final float[] points;
+		private final int advance;
+
+		Glyph(float[] points, int advance) {
+			this.points = points;
+			this.advance = advance;
+		}
+	}
+}
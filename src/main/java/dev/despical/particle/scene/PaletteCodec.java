@@ -0,0 +1,153 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustColorTransitionData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.color.NoteColor;
+import dev.despical.particle.data.color.RegularColor;
+import dev.despical.particle.data.texture.BlockTexture;
+import dev.despical.particle.data.texture.ItemTexture;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the palette entries of a {@link SceneFile}. An entry is the name of
+ * the effect, the offsets, speed and amount of the packet and its data.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class PaletteCodec {
+
+	private static final byte NO_DATA = 0, REGULAR_COLOR = 1, DUST = 2, DUST_COLOR_TRANSITION = 3, NOTE = 4, BLOCK = 5, ITEM = 6;
+
+	private PaletteCodec() {
+	}
+
+	static void write(ByteBuffer buffer, ParticlePacket packet) {
+		writeString(buffer, packet.getParticle().name());
+		buffer.putFloat(packet.getOffsetX()).putFloat(packet.getOffsetY()).putFloat(packet.getOffsetZ());
+		buffer.putFloat(packet.getSpeed()).putInt(packet.getAmount());
+
+		ParticleData data = packet.getParticleData();
+		if (data == null) {
+			buffer.put(NO_DATA);
+		} else if (data instanceof DustColorTransitionData) {
+			DustColorTransitionData transition = (DustColorTransitionData) data;
+			buffer.put(DUST_COLOR_TRANSITION);
+			putColor(buffer, transition.getRed(), transition.getGreen(), transition.getBlue());
+			putColor(buffer, transition.getFadeRed(), transition.getFadeGreen(), transition.getFadeBlue());
+			buffer.putFloat(transition.getSize());
+		} else if (data instanceof DustData) {
+			DustData dust = (DustData) data;
+			buffer.put(DUST);
+			putColor(buffer, dust.getRed(), dust.getGreen(), dust.getBlue());
+			buffer.putFloat(dust.getSize());
+		} else if (data instanceof RegularColor) {
+			RegularColor color = (RegularColor) data;
+			buffer.put(REGULAR_COLOR);
+			putColor(buffer, color.getRed(), color.getGreen(), color.getBlue());
+		} else if (data instanceof NoteColor) {
+			buffer.put(NOTE).put((byte) Math.round(((NoteColor) data).getRed() * 24));
+		} else if (data instanceof BlockTexture) {
+			buffer.put(BLOCK);
+			writeString(buffer, ((BlockTexture) data).getMaterial().name());
+		} else if (data instanceof ItemTexture) {
+			buffer.put(ITEM);
+			writeString(buffer, ((ItemTexture) data).getItemStack().getType().name());
+		} else {
+			throw new IllegalArgumentException(data.getClass().getSimpleName() + " can't be stored in a scene file");
+		}
+	}
+
+	static ParticlePacket read(ByteBuffer buffer) {
+		String name = readString(buffer);
+		ParticleEffect effect;
+		try {
+			effect = ParticleEffect.valueOf(name);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Unknown effect: " + name);
+		}
+
+		float offsetX = buffer.getFloat(), offsetY = buffer.getFloat(), offsetZ = buffer.getFloat();
+		float speed = buffer.getFloat();
+		int amount = buffer.getInt();
+
+		ParticleData data;
+		byte type = buffer.get();
+		switch (type) {
+			case NO_DATA:
+				return new ParticlePacket(effect, offsetX, offsetY, offsetZ, speed, amount);
+			case REGULAR_COLOR:
+				data = new RegularColor(buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF);
+				break;
+			case DUST:
+				data = new DustData(buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.getFloat());
+				break;
+			case DUST_COLOR_TRANSITION:
+				data = new DustColorTransitionData(buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF,
+					buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.getFloat());
+				break;
+			case NOTE:
+				data = new NoteColor(buffer.get());
+				break;
+			case BLOCK:
+				data = new BlockTexture(material(readString(buffer)));
+				break;
+			case ITEM:
+				data = new ItemTexture(new ItemStack(material(readString(buffer))));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown data type: " + type);
+		}
+
+		data.setEffect(effect);
+		return new ParticlePacket(effect, offsetX, offsetY, offsetZ, speed, amount, data);
+	}
+
+	private static void putColor(ByteBuffer buffer, float red, float green, float blue) {
+		buffer.put((byte) Math.round(red * 255)).put((byte) Math.round(green * 255)).put((byte) Math.round(blue * 255));
+	}
+
+	private static Material material(String name) {
+		Material material = Material.matchMaterial(name);
+		if (material == null)
+			throw new IllegalArgumentException("Unknown material: " + name);
+		return material;
+	}
+
+	private static void writeString(ByteBuffer buffer, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		buffer.putShort((short) bytes.length).put(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records every particle displayed through the library, e.g. by
+ * {@link dev.despical.particle.ParticleEffect#display(Location)} or
+ * {@link dev.despical.particle.ParticleBuilder#display()}, into a log that
+ * can be played back by a {@link ParticleReplay}.
+ * <p>
+ * The log is a little-endian stream of the magic {@code PREC} and the format
+ * version followed by records. A definition record assigns an id to an encoded
+ * packet the first time a packet with the same content is emitted, and every
+ * emission record holds the tick since the start of the recording, the id of
+ * its packet and its coordinates. Records are written through a fixed buffer,
+ * so recording doesn't keep the emissions in memory. Particles with data that
+ * can't be encoded, e.g. vibrations, are skipped.
+ * <p>
+ * Every thread remembers the ids of the {@link ParticlePacket} instances it
+ * recorded, so a packet is only encoded the first time a thread emits it and
+ * only the fixed size emission record is written under the lock of the log.
+ * Particles displayed through the batched
+ * {@link dev.despical.particle.utils.NMSUtils#display(ParticlePacket[], byte[], double[], int, Location, dev.despical.particle.audience.Audience)
+ * NMSUtils#display(ParticlePacket[], ...)}, e.g. by images, text, scenes and
+ * decorations, are not recorded.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleRecorder {
+
+	static final int MAGIC = 'P' | 'R' << 8 | 'E' << 16 | 'C' << 24;
+	static final short VERSION = 1;
+	static final byte DEFINITION = 0, EMISSION = 1;
+	static final int EMISSION_SIZE = 33;
+
+	/**
+	 * The maximum amount of packet instances a thread remembers before it starts over.
+	 */
+	private static final int MAX_CACHED_PACKETS = 4096;
+	/**
+	 * Marks packets whose data can't be encoded.
+	 */
+	private static final int UNENCODABLE = -1;
+
+	private static final Object LOCK = new Object();
+	private static final ThreadLocal<PacketIds> PACKET_IDS = ThreadLocal.withInitial(PacketIds::new);
+
+	private static volatile boolean recording;
+	private static FileChannel channel;
+	private static ByteBuffer buffer;
+	private static ByteBuffer scratch;
+	private static Map<ByteBuffer, Integer> ids;
+	private static long emissions, skipped;
+	private static volatile int tick;
+	/**
+	 * Incremented for every recording, so the ids cached by the threads of an earlier one are dropped.
+	 */
+	private static volatile int generation;
+	private static SchedulerUtils.Task task;
+
+	private ParticleRecorder() {
+	}
+
+	/**
+	 * Starts recording into the given file. Requires {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)}
+	 * to be called first, as the ticks are counted by a task.
+	 *
+	 * @param path the {@link Path} the log is written to, an existing file is replaced.
+	 * @throws IOException           if the file can't be created.
+	 * @throws IllegalStateException if a recording is already running.
+	 */
+	public static void start(Path path) throws IOException {
+		synchronized (LOCK) {
+			if (recording)
+				throw new IllegalStateException("A recording is already running");
+
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+			scratch = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+			ids = new HashMap<>();
+			emissions = skipped = 0;
+			tick = 0;
+			generation++;
+			buffer.putInt(MAGIC).putShort(VERSION);
+			task = SchedulerUtils.runTimer(() -> tick++, 1, 1);
+			recording = true;
+		}
+	}
+
+	/**
+	 * Stops the recording and closes the log.
+	 *
+	 * @throws IOException if the remaining records can't be written.
+	 */
+	public static void stop() throws IOException {
+		synchronized (LOCK) {
+			if (!recording)
+				return;
+
+			recording = false;
+			task.cancel();
+			task = null;
+			try {
+				flush();
+			} finally {
+				channel.close();
+				channel = null;
+				buffer = scratch = null;
+				ids = null;
+			}
+		}
+	}
+
+	/**
+	 * Checks if a recording is running.
+	 *
+	 * @return {@code true} if particles are recorded.
+	 */
+	public static boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Gets the amount of emissions recorded by the current or last recording.
+	 *
+	 * @return the amount of recorded emissions.
+	 */
+	public static long getEmissions() {
+		synchronized (LOCK) {
+			return emissions;
+		}
+	}
+
+	/**
+	 * Gets the amount of emissions that couldn't be recorded because their data can't be encoded.
+	 *
+	 * @return the amount of skipped emissions.
+	 */
+	public static long getSkipped() {
+		synchronized (LOCK) {
+			return skipped;
+		}
+	}
+
+	/**
+	 * Records the given emission if a recording is running.
+	 *
+	 * @param packet   the displayed {@link ParticlePacket}.
+	 * @param location the {@link Location} of the particle.
+	 */
+	public static void record(ParticlePacket packet, Location location) {
+		if (!recording)
+			return;
+
+		int generation = ParticleRecorder.generation;
+		PacketIds cache = PACKET_IDS.get();
+		if (cache.generation != generation) {
+			cache.ids.clear();
+			cache.generation = generation;
+		}
+		Integer cached = cache.ids.get(packet);
+
+		synchronized (LOCK) {
+			if (!recording || ParticleRecorder.generation != generation)
+				return;
+
+			try {
+				int id = cached != null ? cached : define(packet);
+				if (cached == null) {
+					if (cache.ids.size() == MAX_CACHED_PACKETS)
+						cache.ids.clear();
+					cache.ids.put(packet, id);
+				}
+				if (id == UNENCODABLE) {
+					skipped++;
+					return;
+				}
+
+				ensure(EMISSION_SIZE);
+				buffer.put(EMISSION).putInt(tick).putInt(id);
+				buffer.putDouble(location.getX()).putDouble(location.getY()).putDouble(location.getZ());
+				emissions++;
+			} catch (IOException ex) {
+				Logger.getLogger("ParticleLib").log(Level.WARNING, "Stopped the particle recording", ex);
+				recording = false;
+				task.cancel();
+				task = null;
+				try {
+					channel.close();
+				} catch (IOException ignored) {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Encodes the given packet and gets the id of its content, writing a definition
+	 * record if the content wasn't seen yet. Must be called while holding the lock.
+	 *
+	 * @return the id of the packet or {@link #UNENCODABLE} if its data can't be encoded.
+	 */
+	private static int define(ParticlePacket packet) throws IOException {
+		scratch.clear();
+		try {
+			PaletteCodec.write(scratch, packet);
+		} catch (IllegalArgumentException ex) {
+			return UNENCODABLE;
+		}
+		scratch.flip();
+
+		// The scratch buffer is only copied for packets that weren't seen yet.
+		Integer id = ids.get(scratch);
+		if (id == null) {
+			byte[] encoded = new byte[scratch.remaining()];
+			scratch.duplicate().get(encoded);
+			ids.put(ByteBuffer.wrap(encoded), id = ids.size());
+			ensure(7 + scratch.remaining());
+			buffer.put(DEFINITION).putInt(id).putShort((short) scratch.remaining()).put(scratch);
+		}
+		return id;
+	}
+
+	private static void ensure(int bytes) throws IOException {
+		if (buffer.remaining() < bytes)
+			flush();
+	}
+
+	private static void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * The ids of the packet instances a single thread recorded, compared by identity.
+	 */
+	private static final class PacketIds {
+
+		private final Map<ParticlePacket, Integer> ids = new IdentityHashMap<>();
+		private int generation = -1;
+	}
+}
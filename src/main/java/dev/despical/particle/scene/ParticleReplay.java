@@ -0,0 +1,307 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays back a log written by the {@link ParticleRecorder} tick by tick. Opening
+ * a replay reads the definitions of the log once and resolves the data of every
+ * packet, so the playback itself only has to display the emissions. The emissions
+ * are streamed from the file through a fixed buffer, which keeps the memory of a
+ * replay independent of the length of the log.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleReplay implements Closeable {
+
+	private static final int HEADER_SIZE = 6;
+
+	private final FileChannel channel;
+	private final ByteBuffer window = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+	private final List<ParticlePacket> packets = new ArrayList<>();
+	private int duration;
+
+	private World world;
+	private Audience audience;
+	private double offsetX, offsetY, offsetZ;
+	private Location location;
+	private int tick;
+	private boolean pending;
+	private int pendingTick, pendingId;
+	private double pendingX, pendingY, pendingZ;
+	private SchedulerUtils.Task task;
+
+	private ParticleReplay(FileChannel channel) throws IOException {
+		this.channel = channel;
+		rewind();
+		if (!fill(HEADER_SIZE) || window.getInt() != ParticleRecorder.MAGIC)
+			throw new IOException("Not a particle recording");
+
+		short version = window.getShort();
+		if (version != ParticleRecorder.VERSION)
+			throw new IOException("Unsupported recording version " + version + ", expected " + ParticleRecorder.VERSION);
+
+		// Resolves every packet up front, the emissions are skipped.
+		while (next()) {
+			if (!pending)
+				continue;
+
+			duration = Math.max(duration, pendingTick + 1);
+			pending = false;
+		}
+	}
+
+	/**
+	 * Opens the given recording and resolves all of its packets.
+	 *
+	 * @param path the {@link Path} of the recording.
+	 * @return the opened {@link ParticleReplay}.
+	 * @throws IOException if the recording can't be read.
+	 */
+	public static ParticleReplay open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new ParticleReplay(channel);
+		} catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Gets the length of the recording.
+	 *
+	 * @return the amount of recorded ticks.
+	 */
+	public int getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Gets the amount of different packets of the recording.
+	 *
+	 * @return the amount of resolved packets.
+	 */
+	public int getPacketCount() {
+		return packets.size();
+	}
+
+	/**
+	 * Plays the recording at the recorded coordinates.
+	 *
+	 * @param world    the {@link World} the recording is played in.
+	 * @param audience the {@link Audience} that should see the recording.
+	 */
+	public void play(World world, Audience audience) {
+		play(world, 0, 0, 0, audience);
+	}
+
+	/**
+	 * Plays the recording moved by the given offset. A running playback is restarted.
+	 *
+	 * @param world    the {@link World} the recording is played in.
+	 * @param offsetX  the x offset of every emission.
+	 * @param offsetY  the y offset of every emission.
+	 * @param offsetZ  the z offset of every emission.
+	 * @param audience the {@link Audience} that should see the recording.
+	 */
+	public synchronized void play(World world, double offsetX, double offsetY, double offsetZ, Audience audience) {
+		stop();
+		try {
+			rewind();
+			fill(HEADER_SIZE);
+			window.position(window.position() + HEADER_SIZE);
+		} catch (IOException ex) {
+			throw new IllegalStateException("Can't rewind the recording", ex);
+		}
+
+		this.world = world;
+		this.audience = audience;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+		this.offsetZ = offsetZ;
+		this.location = new Location(world, 0, 0, 0);
+		this.tick = 0;
+		this.pending = false;
+		this.task = SchedulerUtils.runTimer(this::tick, 0, 1);
+	}
+
+	/**
+	 * Stops the playback.
+	 */
+	public synchronized void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	/**
+	 * Checks if the playback was stopped or has finished.
+	 *
+	 * @return {@code true} if the recording isn't played.
+	 */
+	public synchronized boolean isStopped() {
+		return task == null;
+	}
+
+	/**
+	 * Gets the tick of the recording that is played next.
+	 *
+	 * @return the current tick of the playback.
+	 */
+	public synchronized int getTick() {
+		return tick;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		stop();
+		channel.close();
+	}
+
+	private synchronized void tick() {
+		if (task == null)
+			return;
+
+		try {
+			while (pending || next()) {
+				if (!pending)
+					continue;
+				if (pendingTick > tick)
+					break;
+
+				pending = false;
+				// Emissions are handed over to other threads on Folia, so the location can only be reused elsewhere.
+				Location position = SchedulerUtils.isRegionized() ? new Location(world, 0, 0, 0) : location;
+				position.setX(pendingX + offsetX);
+				position.setY(pendingY + offsetY);
+				position.setZ(pendingZ + offsetZ);
+				NMSUtils.display(packets.get(pendingId), position, audience);
+			}
+		} catch (IOException | RuntimeException ex) {
+			Logger.getLogger("ParticleLib").log(Level.WARNING, "Stopped the replay of a broken recording", ex);
+			stop();
+			return;
+		}
+
+		if (!pending)
+			stop();
+		tick++;
+	}
+
+	/**
+	 * Reads the next record. Definitions are resolved while the replay is opened
+	 * and skipped afterwards, an emission is kept as the pending emission.
+	 *
+	 * @return {@code false} if the end of the recording was reached.
+	 */
+	private boolean next() throws IOException {
+		if (!fill(1))
+			return false;
+
+		byte type = window.get();
+		if (type == ParticleRecorder.DEFINITION) {
+			if (!fill(6))
+				throw new IOException("Truncated definition");
+
+			int id = window.getInt(), length = window.getShort() & 0xFFFF;
+			if (!fill(length))
+				throw new IOException("Truncated definition");
+
+			if (id == packets.size()) {
+				ByteBuffer encoded = window.slice().order(ByteOrder.LITTLE_ENDIAN);
+				encoded.limit(length);
+				packets.add(resolve(PaletteCodec.read(encoded)));
+			}
+			window.position(window.position() + length);
+			return true;
+		}
+
+		if (type != ParticleRecorder.EMISSION || !fill(ParticleRecorder.EMISSION_SIZE - 1))
+			throw new IOException("Invalid record");
+
+		pendingTick = window.getInt();
+		pendingId = window.getInt();
+		pendingX = window.getDouble();
+		pendingY = window.getDouble();
+		pendingZ = window.getDouble();
+		if (pendingId < 0 || pendingId >= packets.size())
+			throw new IOException("Emission of the undefined packet " + pendingId);
+
+		pending = true;
+		return true;
+	}
+
+	private static ParticlePacket resolve(ParticlePacket packet) {
+		ParticleData data = packet.getParticleData();
+		if (data != null) {
+			if (ParticleEffect.USE_API)
+				data.getBukkitData();
+			else
+				data.getNMSData();
+		}
+		return packet;
+	}
+
+	private void rewind() throws IOException {
+		channel.position(0);
+		window.clear().flip();
+	}
+
+	/**
+	 * Makes sure the window holds at least the given amount of bytes.
+	 *
+	 * @return {@code false} if the file ended before.
+	 */
+	private boolean fill(int bytes) throws IOException {
+		if (window.remaining() >= bytes)
+			return true;
+
+		window.compact();
+		while (window.position() < bytes) {
+			if (channel.read(window) == -1)
+				break;
+		}
+		window.flip();
+		return window.remaining() >= bytes;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.NMSUtils;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An immutable, static particle scene whose points are stored off-heap. Every point
+ * is a packed record of its coordinates relative to the origin of the scene and
+ * the index of its {@link ParticlePacket} in the palette of the scene. The
+ * {@link ParticleEffect} of a point is taken from its palette entry, which is
+ * stored by name, so records stay valid when effects are added to the enum. The records either live in a direct buffer or in a
+ * memory-mapped file, so even scenes with hundreds of thousands of points hardly
+ * use any heap.
+ * <p>
+ * Displaying a scene streams the records in batches into the batched display of
+ * {@link NMSUtils}, no object is created per point.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ParticleScene {
+
+	/**
+	 * The size of a point record in bytes: three floats, two reserved bytes and the palette index as a short.
+	 * The reserved bytes are written as zero and ignored when reading.
+	 */
+	public static final int RECORD_SIZE = 16;
+
+	/**
+	 * The maximum amount of different packets of a scene.
+	 */
+	public static final int MAX_PALETTE_SIZE = 256;
+
+	private static final int BATCH_SIZE = 1024;
+
+	private final ByteBuffer records;
+	private final ParticlePacket[] palette;
+	private final int count;
+
+	ParticleScene(ByteBuffer records, ParticlePacket[] palette) {
+		if (palette.length > MAX_PALETTE_SIZE)
+			throw new IllegalArgumentException("A scene can't have more than " + MAX_PALETTE_SIZE + " different packets");
+		if (records.remaining() % RECORD_SIZE != 0)
+			throw new IllegalArgumentException("The records have to be a multiple of " + RECORD_SIZE + " bytes");
+
+		this.records = records.slice().order(ByteOrder.LITTLE_ENDIAN);
+		this.palette = palette.clone();
+		this.count = this.records.remaining() / RECORD_SIZE;
+	}
+
+	/**
+	 * Maps a file of raw point records, e.g. one written by {@link #writeRecords(Path)}.
+	 * The file stays mapped until the scene is garbage collected.
+	 *
+	 * @param path    the {@link Path} of the records.
+	 * @param palette the packets the palette indices of the records refer to.
+	 * @return the mapped {@link ParticleScene}.
+	 * @throws IOException if the file can't be mapped.
+	 */
+	public static ParticleScene map(Path path, ParticlePacket... palette) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ParticleScene scene = new ParticleScene(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), palette);
+			scene.validate();
+			return scene;
+		}
+	}
+
+	/**
+	 * Writes the raw point records of this scene into the given file.
+	 *
+	 * @param path the {@link Path} the records should be written to.
+	 * @throws IOException if the file can't be written.
+	 */
+	public void writeRecords(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = records.duplicate();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Checks that every record refers to an existing palette entry.
+	 *
+	 * @throws IllegalArgumentException if a record is invalid.
+	 */
+	void validate() {
+		for (int i = 0; i < count; i++) {
+			int index = getPaletteIndex(i);
+			if (index >= palette.length)
+				throw new IllegalArgumentException("Point " + i + " refers to palette entry " + index + " of " + palette.length);
+		}
+	}
+
+	/**
+	 * Gets a view of the point records, positioned at the first record.
+	 *
+	 * @return the little-endian records of this scene.
+	 */
+	ByteBuffer getRecords() {
+		return records.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Gets the palette of this scene.
+	 *
+	 * @return a copy of the palette.
+	 */
+	ParticlePacket[] getPalette() {
+		return palette.clone();
+	}
+
+	/**
+	 * Gets the amount of points of the scene.
+	 *
+	 * @return the amount of points.
+	 */
+	public int getPointCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the amount of different packets of the scene.
+	 *
+	 * @return the size of the palette.
+	 */
+	public int getPaletteSize() {
+		return palette.length;
+	}
+
+	/**
+	 * Gets the {@link ParticlePacket} of the given palette entry.
+	 *
+	 * @param index the index in the palette.
+	 * @return the packet of the palette entry.
+	 */
+	public ParticlePacket getPacket(int index) {
+		return palette[index];
+	}
+
+	/**
+	 * Gets the x coordinate of the given point relative to the origin of the scene.
+	 *
+	 * @param index the index of the point.
+	 * @return the x coordinate.
+	 */
+	public float getX(int index) {
+		return records.getFloat(index * RECORD_SIZE);
+	}
+
+	/**
+	 * Gets the y coordinate of the given point relative to the origin of the scene.
+	 *
+	 * @param index the index of the point.
+	 * @return the y coordinate.
+	 */
+	public float getY(int index) {
+		return records.getFloat(index * RECORD_SIZE + 4);
+	}
+
+	/**
+	 * Gets the z coordinate of the given point relative to the origin of the scene.
+	 *
+	 * @param index the index of the point.
+	 * @return the z coordinate.
+	 */
+	public float getZ(int index) {
+		return records.getFloat(index * RECORD_SIZE + 8);
+	}
+
+	/**
+	 * Gets the {@link ParticleEffect} of the given point from its palette entry.
+	 *
+	 * @param index the index of the point.
+	 * @return the effect of the point.
+	 */
+	public ParticleEffect getEffect(int index) {
+		return palette[getPaletteIndex(index)].getParticle();
+	}
+
+	/**
+	 * Gets the palette index of the given point.
+	 *
+	 * @param index the index of the point.
+	 * @return the index of the packet of the point in the palette.
+	 */
+	public int getPaletteIndex(int index) {
+		return records.getShort(index * RECORD_SIZE + 14) & 0xFFFF;
+	}
+
+	/**
+	 * Displays every point of the scene.
+	 *
+	 * @param origin   the {@link Location} the scene is placed at.
+	 * @param audience the {@link Audience} that should see the scene.
+	 */
+	public void display(Location origin, Audience audience) {
+		// The whole scene is streamed by the owning region on Folia, with a copy of the origin the caller may move.
+		if (SchedulerUtils.isRegionized() && !SchedulerUtils.isOwnedByCurrentRegion(origin)) {
+			Location copy = origin.clone();
+			SchedulerUtils.runAt(copy, () -> display(copy, audience));
+			return;
+		}
+
+		double x = origin.getX(), y = origin.getY(), z = origin.getZ();
+		int batch = Math.min(count, BATCH_SIZE);
+		double[] positions = new double[batch * 3];
+		byte[] indices = new byte[batch];
+
+		for (int start = 0; start < count; start += batch) {
+			int size = Math.min(batch, count - start);
+			for (int i = 0; i < size; i++) {
+				int offset = (start + i) * RECORD_SIZE;
+				positions[i * 3] = x + records.getFloat(offset);
+				positions[i * 3 + 1] = y + records.getFloat(offset + 4);
+				positions[i * 3 + 2] = z + records.getFloat(offset + 8);
+				indices[i] = (byte) records.getShort(offset + 14);
+			}
+			NMSUtils.display(palette, indices, positions, size, origin, audience);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticlePacket;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link ParticleScene} point by point. The records are written
+ * straight into a direct buffer, which grows as points are added.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class SceneBuilder {
+
+	private final Map<ParticlePacket, Integer> paletteIndices = new IdentityHashMap<>();
+	private final List<ParticlePacket> palette = new ArrayList<>();
+	private ByteBuffer records;
+
+	/**
+	 * Creates a new {@link SceneBuilder}.
+	 *
+	 * @param expectedPoints the amount of points the buffer is sized for initially.
+	 */
+	public SceneBuilder(int expectedPoints) {
+		this.records = ByteBuffer.allocateDirect(Math.max(16, expectedPoints) * ParticleScene.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new {@link SceneBuilder}.
+	 */
+	public SceneBuilder() {
+		this(1024);
+	}
+
+	/**
+	 * Adds a point to the scene. Packets are compared by identity, so points that
+	 * should share a palette entry have to use the same {@link ParticlePacket}.
+	 *
+	 * @param x      the x coordinate relative to the origin of the scene.
+	 * @param y      the y coordinate relative to the origin of the scene.
+	 * @param z      the z coordinate relative to the origin of the scene.
+	 * @param packet the {@link ParticlePacket} the point is displayed with.
+	 * @return this builder.
+	 */
+	public SceneBuilder add(float x, float y, float z, ParticlePacket packet) {
+		if (records == null)
+			throw new IllegalStateException("The scene was already built");
+
+		Integer index = paletteIndices.get(packet);
+		if (index == null) {
+			if (palette.size() == ParticleScene.MAX_PALETTE_SIZE)
+				throw new IllegalStateException("A scene can't have more than " + ParticleScene.MAX_PALETTE_SIZE + " different packets");
+
+			paletteIndices.put(packet, index = palette.size());
+			palette.add(packet);
+		}
+
+		if (records.remaining() < ParticleScene.RECORD_SIZE) {
+			ByteBuffer grown = ByteBuffer.allocateDirect(records.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+			records.flip();
+			grown.put(records);
+			records = grown;
+		}
+
+		records.putFloat(x).putFloat(y).putFloat(z);
+		records.putShort((short) 0);
+		records.putShort((short) (int) index);
+		return this;
+	}
+
+	/**
+	 * Gets the amount of points added so far.
+	 *
+	 * @return the amount of points.
+	 */
+	public int getPointCount() {
+		return records == null ? 0 : records.position() / ParticleScene.RECORD_SIZE;
+	}
+
+	/**
+	 * Builds the scene. The builder can't be used afterwards, as the scene takes over its buffer.
+	 *
+	 * @return the built {@link ParticleScene}.
+	 */
+	public ParticleScene build() {
+		if (records == null)
+			throw new IllegalStateException("The scene was already built");
+
+		ByteBuffer built = records;
+		records = null;
+		built.flip();
+		return new ParticleScene(built.asReadOnlyBuffer(), palette.toArray(new ParticlePacket[0]));
+	}
+}
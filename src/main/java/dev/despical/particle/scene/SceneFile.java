@@ -0,0 +1,185 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.audience.Audience;
+import org.bukkit.Location;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A memory-mapped scene file written by the {@link SceneWriter}. Only the header
+ * and the palette are decoded when the file is opened. The point records are
+ * displayed straight from the mapping and the deltas of a frame are only read
+ * when the frame is played.
+ * <p>
+ * All values are little-endian. The file starts with a header of the magic
+ * {@code PSCN}, the format version, the flags, the sizes of the palette, the points
+ * and the frames and the offsets of the points and the frame table. The palette
+ * follows the header, the points are {@link ParticleScene#RECORD_SIZE} byte records
+ * and every entry of the frame table points to the deltas of a frame. A delta sets
+ * the position and the palette entry of a single point.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class SceneFile {
+
+	static final int MAGIC = 'P' | 'S' << 8 | 'C' << 16 | 'N' << 24;
+	static final short VERSION = 1;
+	static final int HEADER_SIZE = 36;
+	static final int FRAME_ENTRY_SIZE = 12;
+	static final int DELTA_SIZE = 20;
+	static final short LOOP_FLAG = 1;
+
+	private final ByteBuffer buffer;
+	private final ParticleScene scene;
+	private final ParticlePacket[] palette;
+	private final int frameCount;
+	private final long framesOffset;
+	private final boolean loop;
+
+	private SceneFile(ByteBuffer buffer) {
+		this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.getInt(0) != MAGIC)
+			throw new IllegalArgumentException("Not a scene file");
+
+		short version = buffer.getShort(4);
+		if (version != VERSION)
+			throw new IllegalArgumentException("Unsupported scene file version " + version + ", expected " + VERSION);
+
+		this.loop = (buffer.getShort(6) & LOOP_FLAG) != 0;
+		int paletteCount = buffer.getInt(8), pointCount = buffer.getInt(12);
+		this.frameCount = buffer.getInt(16);
+		long pointsOffset = buffer.getLong(20);
+		this.framesOffset = buffer.getLong(28);
+
+		ByteBuffer paletteBuffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		paletteBuffer.position(HEADER_SIZE);
+		this.palette = new ParticlePacket[paletteCount];
+		for (int i = 0; i < paletteCount; i++)
+			palette[i] = PaletteCodec.read(paletteBuffer);
+
+		ByteBuffer records = buffer.duplicate();
+		records.position((int) pointsOffset).limit((int) pointsOffset + pointCount * ParticleScene.RECORD_SIZE);
+		this.scene = new ParticleScene(records, palette);
+		if (framesOffset + (long) frameCount * FRAME_ENTRY_SIZE > buffer.capacity())
+			throw new IllegalArgumentException("The frame table exceeds the file");
+	}
+
+	/**
+	 * Maps and opens the given scene file. The file stays mapped until the scene is garbage collected.
+	 *
+	 * @param path the {@link Path} of the scene file.
+	 * @return the opened {@link SceneFile}.
+	 * @throws IOException if the file can't be mapped or isn't a valid scene file.
+	 */
+	public static SceneFile open(Path path) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Scene files are limited to 2 GiB: " + path);
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		try {
+			SceneFile file = new SceneFile(buffer);
+			file.scene.validate();
+			return file;
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException ex) {
+			throw new IOException("Invalid scene file " + path + ": " + ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Gets the first frame of the scene, which is the only one of static scenes.
+	 *
+	 * @return the mapped {@link ParticleScene}.
+	 */
+	public ParticleScene getScene() {
+		return scene;
+	}
+
+	/**
+	 * Gets the amount of delta frames following the first frame.
+	 *
+	 * @return the amount of delta frames.
+	 */
+	public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Checks if the playback starts over after the last frame.
+	 *
+	 * @return {@code true} if the scene loops.
+	 */
+	public boolean isLooping() {
+		return loop;
+	}
+
+	/**
+	 * Plays the scene, starting with its first frame and applying one delta frame every tick.
+	 *
+	 * @param origin   the {@link Location} the scene is placed at.
+	 * @param audience the {@link Audience} that should see the scene.
+	 * @return the started {@link ScenePlayback}.
+	 */
+	public ScenePlayback play(Location origin, Audience audience) {
+		ScenePlayback playback = new ScenePlayback(this, origin.clone(), audience);
+		playback.start();
+		return playback;
+	}
+
+	/**
+	 * Applies the deltas of the given frame onto a copy of the point records.
+	 *
+	 * @param frame   the index of the delta frame.
+	 * @param records the little-endian point records that should be updated.
+	 * @throws IllegalStateException if a delta refers to a missing point or palette entry.
+	 */
+	void applyFrame(int frame, ByteBuffer records) {
+		int entry = (int) (framesOffset + (long) frame * FRAME_ENTRY_SIZE);
+		int offset = (int) buffer.getLong(entry), count = buffer.getInt(entry + 8);
+		for (int i = 0; i < count; i++, offset += DELTA_SIZE) {
+			int point = buffer.getInt(offset), paletteIndex = buffer.getShort(offset + 16) & 0xFFFF;
+			if (point >= scene.getPointCount() || paletteIndex >= palette.length)
+				throw new IllegalStateException("Invalid delta " + i + " of frame " + frame);
+
+			int record = point * ParticleScene.RECORD_SIZE;
+			records.putFloat(record, buffer.getFloat(offset + 4));
+			records.putFloat(record + 4, buffer.getFloat(offset + 8));
+			records.putFloat(record + 8, buffer.getFloat(offset + 12));
+			records.putShort(record + 14, (short) paletteIndex);
+		}
+	}
+
+	ParticlePacket[] getPalette() {
+		return palette;
+	}
+}
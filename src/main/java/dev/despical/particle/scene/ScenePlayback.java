@@ -0,0 +1,113 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.utils.SchedulerUtils;
+import org.bukkit.Location;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A running playback of a {@link SceneFile}. The playback works on an off-heap
+ * copy of the first frame, which the deltas of the following frames are applied
+ * to one frame per tick.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class ScenePlayback {
+
+	private final SceneFile file;
+	private final Location origin;
+	private final Audience audience;
+	private final ByteBuffer base;
+	private final ByteBuffer records;
+	private final ParticleScene scene;
+	private int frame;
+	private SchedulerUtils.Task task;
+
+	ScenePlayback(SceneFile file, Location origin, Audience audience) {
+		this.file = file;
+		this.origin = origin.clone();
+		this.audience = audience;
+		this.base = file.getScene().getRecords();
+		this.records = ByteBuffer.allocateDirect(base.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+		this.records.put(base.duplicate()).flip();
+		this.scene = new ParticleScene(records, file.getPalette());
+	}
+
+	synchronized void start() {
+		// The frame is displayed and advanced by the region that owns the origin on Folia, so
+		// the next deltas are never applied while a deferred display still reads the records.
+		task = SchedulerUtils.runTimer(origin, this::tick, 0, 1);
+	}
+
+	/**
+	 * Stops the playback.
+	 */
+	public synchronized void stop() {
+		if (task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	/**
+	 * Checks if the playback was stopped or has finished.
+	 *
+	 * @return {@code true} if the scene isn't played anymore.
+	 */
+	public synchronized boolean isStopped() {
+		return task == null;
+	}
+
+	/**
+	 * Gets the index of the frame that is displayed next, {@code 0} is the first frame of the scene.
+	 *
+	 * @return the index of the next frame.
+	 */
+	public synchronized int getFrame() {
+		return frame;
+	}
+
+	private synchronized void tick() {
+		if (task == null)
+			return;
+
+		scene.display(origin, audience);
+		try {
+			if (frame < file.getFrameCount()) {
+				file.applyFrame(frame++, records);
+			} else if (file.isLooping()) {
+				records.duplicate().put(base.duplicate());
+				frame = 0;
+			} else {
+				stop();
+			}
+		} catch (IllegalStateException ex) {
+			Logger.getLogger("ParticleLib").log(Level.WARNING, "Stopped the playback of a broken scene", ex);
+			stop();
+		}
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.scene;
+
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.animation.Timeline;
+import dev.despical.particle.definition.EffectRegistry;
+import dev.despical.particle.definition.PreparedEmitter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes {@link SceneFile SceneFiles}. A scene file consists of a first frame,
+ * given as a {@link ParticleScene}, and optional delta frames which move points
+ * or change their packet.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class SceneWriter {
+
+	private final ByteBuffer records;
+	private final int pointCount;
+	private final Map<ParticlePacket, Integer> paletteIndices = new IdentityHashMap<>();
+	private final List<ParticlePacket> palette = new ArrayList<>();
+	private final List<ByteBuffer> frames = new ArrayList<>();
+	private boolean loop;
+
+	/**
+	 * Creates a new {@link SceneWriter}.
+	 *
+	 * @param scene the first frame of the scene.
+	 */
+	public SceneWriter(ParticleScene scene) {
+		this.records = scene.getRecords();
+		this.pointCount = scene.getPointCount();
+		for (ParticlePacket packet : scene.getPalette())
+			paletteIndex(packet);
+	}
+
+	/**
+	 * Converts every definition of the given file into a scene file, e.g. to
+	 * convert the definitions authored for the {@link EffectRegistry} offline.
+	 * Every scene file is named after its definition.
+	 *
+	 * @param definitions the YAML or JSON file of the definitions.
+	 * @param directory   the directory the scene files are written into.
+	 * @return the amount of written scene files.
+	 * @throws IOException if a file can't be read or written.
+	 */
+	public static int convert(Path definitions, Path directory) throws IOException {
+		Files.createDirectories(directory);
+		try (EffectRegistry registry = new EffectRegistry()) {
+			Map<String, PreparedEmitter> emitters = registry.load(definitions);
+			for (PreparedEmitter emitter : emitters.values())
+				of(emitter).write(directory.resolve(emitter.getName() + ".pscene"));
+			return emitters.size();
+		}
+	}
+
+	/**
+	 * Creates a writer of the given compiled definition. The timeline of an
+	 * animated definition is stored as one delta frame per tick, which only
+	 * contains the points whose position or packet changed.
+	 * <p>
+	 * Frames with equal packets share a palette entry. If the timeline still has
+	 * more than {@value ParticleScene#MAX_PALETTE_SIZE} different packets, e.g. a
+	 * long color fade, only every n-th change of the packet is kept and the packet
+	 * is held in between, so the animation changes in coarser steps.
+	 *
+	 * @param emitter the {@link PreparedEmitter} that should be converted.
+	 * @return the created {@link SceneWriter}.
+	 */
+	public static SceneWriter of(PreparedEmitter emitter) {
+		double[] points = emitter.getPoints();
+		int count = points.length / 3;
+		Timeline timeline = emitter.getTimeline();
+		if (timeline == null) {
+			SceneBuilder builder = new SceneBuilder(count);
+			for (int i = 0; i < count; i++)
+				builder.add((float) points[i * 3], (float) points[i * 3 + 1], (float) points[i * 3 + 2], emitter.getPacket());
+			return new SceneWriter(builder.build());
+		}
+
+		ParticlePacket[] packets = packetsOf(timeline);
+		double[] position = new double[3];
+		timeline.getPosition(0, position);
+		ParticlePacket packet = packets[0];
+		SceneBuilder builder = new SceneBuilder(count);
+		for (int i = 0; i < count; i++)
+			builder.add((float) (points[i * 3] + position[0]), (float) (points[i * 3 + 1] + position[1]), (float) (points[i * 3 + 2] + position[2]), packet);
+
+		SceneWriter writer = new SceneWriter(builder.build()).loop(timeline.isLooping());
+		double[] previous = position.clone();
+		for (int tick = 1; tick < timeline.getDuration(); tick++) {
+			timeline.getPosition(tick, position);
+			ParticlePacket next = packets[tick];
+			writer.frame();
+			if (next != packet || position[0] != previous[0] || position[1] != previous[1] || position[2] != previous[2]) {
+				for (int i = 0; i < count; i++)
+					writer.set(i, (float) (points[i * 3] + position[0]), (float) (points[i * 3 + 1] + position[1]), (float) (points[i * 3 + 2] + position[2]), next);
+			}
+			packet = next;
+			System.arraycopy(position, 0, previous, 0, 3);
+		}
+		return writer;
+	}
+
+	/**
+	 * Gets the packet of every tick of the timeline, sharing equal packets and
+	 * sampling the changes down until they fit into the palette of a scene.
+	 */
+	private static ParticlePacket[] packetsOf(Timeline timeline) {
+		ParticlePacket[] packets = new ParticlePacket[timeline.getDuration()];
+		Map<PacketKey, ParticlePacket> distinct = new HashMap<>();
+		int changes = 0;
+		for (int tick = 0; tick < packets.length; tick++) {
+			ParticlePacket packet = timeline.getPacket(tick);
+			packets[tick] = distinct.computeIfAbsent(new PacketKey(packet), key -> packet);
+			if (tick != 0 && packets[tick] != packets[tick - 1])
+				changes++;
+		}
+		if (distinct.size() <= ParticleScene.MAX_PALETTE_SIZE)
+			return packets;
+
+		// Keeping at most one change less than the palette size leaves room for the first packet.
+		int step = (changes + ParticleScene.MAX_PALETTE_SIZE - 2) / (ParticleScene.MAX_PALETTE_SIZE - 1);
+		ParticlePacket held = packets[0], previous = packets[0];
+		for (int tick = 1, change = 0; tick < packets.length; tick++) {
+			ParticlePacket packet = packets[tick];
+			if (packet != previous && ++change % step == 0)
+				held = packet;
+			previous = packet;
+			packets[tick] = held;
+		}
+		return packets;
+	}
+
+	/**
+	 * Sets if the playback starts over after the last frame.
+	 *
+	 * @param loop {@code true} if the scene should loop.
+	 * @return this writer.
+	 */
+	public SceneWriter loop(boolean loop) {
+		this.loop = loop;
+		return this;
+	}
+
+	/**
+	 * Starts a new delta frame, the following calls of {@link #set(int, float, float, float, ParticlePacket)} belong to it.
+	 *
+	 * @return this writer.
+	 */
+	public SceneWriter frame() {
+		frames.add(ByteBuffer.allocate(16 * SceneFile.DELTA_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+		return this;
+	}
+
+	/**
+	 * Sets the position and packet of a point in the current delta frame.
+	 *
+	 * @param point  the index of the point.
+	 * @param x      the new x coordinate relative to the origin of the scene.
+	 * @param y      the new y coordinate relative to the origin of the scene.
+	 * @param z      the new z coordinate relative to the origin of the scene.
+	 * @param packet the new {@link ParticlePacket} of the point.
+	 * @return this writer.
+	 */
+	public SceneWriter set(int point, float x, float y, float z, ParticlePacket packet) {
+		if (frames.isEmpty())
+			throw new IllegalStateException("No frame was started");
+		if (point < 0 || point >= pointCount)
+			throw new IndexOutOfBoundsException("Point " + point + " of " + pointCount);
+
+		int index = paletteIndex(packet);
+		ByteBuffer deltas = frames.get(frames.size() - 1);
+		if (deltas.remaining() < SceneFile.DELTA_SIZE) {
+			ByteBuffer grown = ByteBuffer.allocate(deltas.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+			deltas.flip();
+			frames.set(frames.size() - 1, deltas = grown.put(deltas));
+		}
+
+		deltas.putInt(point).putFloat(x).putFloat(y).putFloat(z).putShort((short) index).putShort((short) 0);
+		return this;
+	}
+
+	/**
+	 * Writes the scene file.
+	 *
+	 * @param path the {@link Path} the scene file should be written to.
+	 * @throws IOException if the file can't be written.
+	 */
+	public void write(Path path) throws IOException {
+		ByteBuffer paletteBuffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+		for (ParticlePacket packet : palette) {
+			if (paletteBuffer.remaining() < 512) {
+				ByteBuffer grown = ByteBuffer.allocate(paletteBuffer.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+				paletteBuffer.flip();
+				paletteBuffer = grown.put(paletteBuffer);
+			}
+			PaletteCodec.write(paletteBuffer, packet);
+		}
+		paletteBuffer.flip();
+
+		long pointsOffset = SceneFile.HEADER_SIZE + paletteBuffer.remaining();
+		long framesOffset = pointsOffset + (long) pointCount * ParticleScene.RECORD_SIZE;
+		long deltasOffset = framesOffset + (long) frames.size() * SceneFile.FRAME_ENTRY_SIZE;
+
+		ByteBuffer header = ByteBuffer.allocate(SceneFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(SceneFile.MAGIC).putShort(SceneFile.VERSION).putShort(loop ? SceneFile.LOOP_FLAG : 0);
+		header.putInt(palette.size()).putInt(pointCount).putInt(frames.size());
+		header.putLong(pointsOffset).putLong(framesOffset).flip();
+
+		ByteBuffer frameTable = ByteBuffer.allocate(frames.size() * SceneFile.FRAME_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		for (ByteBuffer deltas : frames) {
+			frameTable.putLong(deltasOffset).putInt(deltas.position() / SceneFile.DELTA_SIZE);
+			deltasOffset += deltas.position();
+		}
+		frameTable.flip();
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeFully(channel, header);
+			writeFully(channel, paletteBuffer);
+			writeFully(channel, records.duplicate());
+			writeFully(channel, frameTable);
+			for (ByteBuffer deltas : frames)
+				writeFully(channel, (ByteBuffer) deltas.duplicate().flip());
+		}
+	}
+
+	private int paletteIndex(ParticlePacket packet) {
+		Integer index = paletteIndices.get(packet);
+		if (index == null) {
+			if (palette.size() == ParticleScene.MAX_PALETTE_SIZE)
+				throw new IllegalStateException("A scene can't have more than " + ParticleScene.MAX_PALETTE_SIZE + " different packets");
+
+			paletteIndices.put(packet, index = palette.size());
+			palette.add(packet);
+		}
+		return index;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+
+	/**
+	 * Compares packets by their values, so equal packets of different frames share a palette entry.
+	 */
+	private static final class PacketKey {
+
+		private final ParticlePacket packet;
+		private final int hash;
+
+		PacketKey(ParticlePacket packet) {
+			this.packet = packet;
+			this.hash = Objects.hash(packet.getParticle(), packet.getOffsetX(), packet.getOffsetY(), packet.getOffsetZ(),
+					packet.getSpeed(), packet.getAmount(), packet.getParticleData());
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof PacketKey))
+				return false;
+			ParticlePacket other = ((PacketKey) object).packet;
+			return packet.getParticle() == other.getParticle()
+					&& Float.compare(packet.getOffsetX(), other.getOffsetX()) == 0
+					&& Float.compare(packet.getOffsetY(), other.getOffsetY()) == 0
+					&& Float.compare(packet.getOffsetZ(), other.getOffsetZ()) == 0
+					&& Float.compare(packet.getSpeed(), other.getSpeed()) == 0
+					&& packet.getAmount() == other.getAmount()
+					&& Objects.equals(packet.getParticleData(), other.getParticleData());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -37,6 +37,20 @@ public final class MathUtils {
 	 */
 	public static final Random RANDOM = new Random();
 
+	/**
+	 * The angle between two consecutive points of a golden-angle spiral, in radians.
+	 */
+	public static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+	/**
+	 * The shared {@link TrigTable} of {@link #sin(double)} and {@link #cos(double)}
+	 * with 4096 entries per turn, which uses 16 KiB of memory.
+	 */
+	public static final TrigTable TRIG_TABLE = new TrigTable(4096);
+
+	private static final double TWO_PI = Math.PI * 2;
+	private static final double INVERSE_TWO_PI = 1 / TWO_PI;
+
 	/**
 	 * Generates a random {@link Integer}.
 	 *
@@ -61,4 +75,172 @@ public final class MathUtils {
 	public static int getMaxOrMin(int value, int max, int min) {
 		return value < max ? (Math.max(value, min)) : max;
 	}
+
+	/**
+	 * Looks up the sine of the given angle in the shared {@link #TRIG_TABLE}.
+	 * The absolute error is below 4e-7, which is far below the precision
+	 * particle positions are sent with.
+	 *
+	 * @param radians the angle in radians.
+	 * @return the interpolated sine of the angle.
+	 * @see TrigTable#sin(double)
+	 */
+	public static double sin(double radians) {
+		return TRIG_TABLE.sin(radians);
+	}
+
+	/**
+	 * Looks up the cosine of the given angle in the shared {@link #TRIG_TABLE}.
+	 * The absolute error is below 4e-7.
+	 *
+	 * @param radians the angle in radians.
+	 * @return the interpolated cosine of the angle.
+	 * @see TrigTable#cos(double)
+	 */
+	public static double cos(double radians) {
+		return TRIG_TABLE.cos(radians);
+	}
+
+	/**
+	 * Approximates the sine of the given angle without any table, using a
+	 * refined parabola. The absolute error is below 1.1e-3, which is enough
+	 * for positions of particles but not for anything that accumulates the
+	 * error, like repeatedly rotated points.
+	 * <p>
+	 * Like the {@link TrigTable}, it is not benchmarked against {@link Math#sin(double)}.
+	 *
+	 * @param radians the angle in radians.
+	 * @return the approximated sine of the angle.
+	 */
+	public static double approximateSin(double radians) {
+		// Reduces the angle to [-pi, pi).
+		double x = radians - TWO_PI * Math.floor((radians + Math.PI) * INVERSE_TWO_PI);
+		double y = 4 / Math.PI * x - 4 / (Math.PI * Math.PI) * x * Math.abs(x);
+		return 0.225 * (y * Math.abs(y) - y) + y;
+	}
+
+	/**
+	 * Approximates the cosine of the given angle without any table. The
+	 * absolute error is below 1.1e-3.
+	 *
+	 * @param radians the angle in radians.
+	 * @return the approximated cosine of the angle.
+	 * @see #approximateSin(double)
+	 */
+	public static double approximateCos(double radians) {
+		return approximateSin(radians + Math.PI / 2);
+	}
+
+	/**
+	 * Writes points that are spread evenly over a sphere into the given array.
+	 * The points lie on a spiral from the top to the bottom of the sphere, which
+	 * advances by the {@link #GOLDEN_ANGLE} with every point.
+	 *
+	 * @param count       the amount of points.
+	 * @param radius      the radius of the sphere.
+	 * @param destination the array the x, y and z coordinates of every point are written into.
+	 * @param offset      the index of the first written element.
+	 */
+	public static void goldenSphere(int count, double radius, double[] destination, int offset) {
+		for (int i = 0; i < count; i++) {
+			double y = count == 1 ? 0 : 1 - 2D * i / (count - 1);
+			double ring = Math.sqrt(1 - y * y) * radius;
+			int index = offset + i * 3;
+			destination[index] = TRIG_TABLE.cos(GOLDEN_ANGLE * i) * ring;
+			destination[index + 1] = y * radius;
+			destination[index + 2] = TRIG_TABLE.sin(GOLDEN_ANGLE * i) * ring;
+		}
+	}
+
+	/**
+	 * Writes points that are spread evenly over a sphere into the given array.
+	 *
+	 * @param count       the amount of points.
+	 * @param radius      the radius of the sphere.
+	 * @param destination the array the x, y and z coordinates of every point are written into.
+	 * @param offset      the index of the first written element.
+	 * @see #goldenSphere(int, double, double[], int)
+	 */
+	public static void goldenSphere(int count, float radius, float[] destination, int offset) {
+		for (int i = 0; i < count; i++) {
+			double y = count == 1 ? 0 : 1 - 2D * i / (count - 1);
+			double ring = Math.sqrt(1 - y * y) * radius;
+			int index = offset + i * 3;
+			destination[index] = (float) (TRIG_TABLE.cos(GOLDEN_ANGLE * i) * ring);
+			destination[index + 1] = (float) (y * radius);
+			destination[index + 2] = (float) (TRIG_TABLE.sin(GOLDEN_ANGLE * i) * ring);
+		}
+	}
+
+	/**
+	 * A lookup table of the sine over one full turn. Values between two entries
+	 * are interpolated linearly, so the absolute error is bounded by
+	 * {@code (2 * pi / resolution)^2 / 8} plus the rounding of the float entries,
+	 * e.g. below 4e-7 for 4096 entries and below 5e-6 for 1024 entries. Without interpolation the error would be half
+	 * the distance between two entries instead.
+	 * <p>
+	 * Only the error bounds were verified. The tables are not benchmarked against
+	 * {@link Math#sin(double)}, which HotSpot compiles to an intrinsic, so a lookup
+	 * isn't necessarily faster. Benchmark on the target JVM before replacing calls
+	 * to {@link Math} with it.
+	 */
+	public static final class TrigTable {
+
+		private final float[] table;
+		private final int mask;
+		private final double scale;
+
+		/**
+		 * Creates a new {@link TrigTable}.
+		 *
+		 * @param resolution the amount of entries per turn, has to be a power of two.
+		 */
+		public TrigTable(int resolution) {
+			if (resolution < 4 || Integer.bitCount(resolution) != 1)
+				throw new IllegalArgumentException("The resolution has to be a power of two and at least 4");
+
+			// One extra entry, so the interpolation of the last entry doesn't have to wrap around.
+			this.table = new float[resolution + 1];
+			this.mask = resolution - 1;
+			this.scale = resolution / TWO_PI;
+			for (int i = 0; i <= resolution; i++)
+				table[i] = (float) Math.sin(i / scale);
+		}
+
+		/**
+		 * Gets the amount of entries per turn.
+		 *
+		 * @return the resolution of this table.
+		 */
+		public int getResolution() {
+			return mask + 1;
+		}
+
+		/**
+		 * Looks up the sine of the given angle.
+		 *
+		 * @param radians the angle in radians.
+		 * @return the interpolated sine of the angle.
+		 */
+		public double sin(double radians) {
+			return lookup(radians * scale);
+		}
+
+		/**
+		 * Looks up the cosine of the given angle.
+		 *
+		 * @param radians the angle in radians.
+		 * @return the interpolated cosine of the angle.
+		 */
+		public double cos(double radians) {
+			return lookup(radians * scale + (mask + 1) / 4D);
+		}
+
+		private double lookup(double position) {
+			double floor = Math.floor(position);
+			int index = (int) ((long) floor & mask);
+			float value = table[index];
+			return value + (table[index + 1] - value) * (position - floor);
+		}
+	}
 }
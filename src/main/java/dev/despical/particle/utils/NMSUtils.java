@@ -19,12 +19,28 @@
 package dev.despical.particle.utils;
 
 import dev.despical.particle.ParticleEffect;
-import org.bukkit.Bukkit;
+import dev.despical.particle.ParticlePacket;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.audience.Audience;
+import dev.despical.particle.audience.LevelOfDetail;
+import dev.despical.particle.audience.ParticlePreferences;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.NoteColor;
+import dev.despical.particle.data.color.ParticleColor;
+import dev.despical.particle.emission.ParticleDeduplicator;
+import dev.despical.particle.metrics.ParticleMetrics;
+import dev.despical.particle.scene.ParticleRecorder;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -34,39 +50,320 @@ import java.util.function.Predicate;
  */
 public final class NMSUtils {
 
+	/**
+	 * The Bukkit {@link Particle} of every {@link ParticleEffect} that exists in the
+	 * Bukkit api of the current version.
+	 */
+	private static final Map<ParticleEffect, Particle> BUKKIT_PARTICLES = new EnumMap<>(ParticleEffect.class);
+
+	static {
+		if (ParticleEffect.USE_API) {
+			for (ParticleEffect effect : ParticleEffect.VALUES) {
+				try {
+					BUKKIT_PARTICLES.put(effect, Particle.valueOf(effect.name()));
+				} catch (IllegalArgumentException ignored) {
+				}
+			}
+		}
+	}
+
 	private NMSUtils() {
 	}
 
-	private static Particle toBukkit(ParticleEffect effect) {
-		return Particle.valueOf(effect.name().toUpperCase(Locale.ENGLISH));
+	/**
+	 * Gets the Bukkit {@link Particle} of the given {@link ParticleEffect}.
+	 *
+	 * @param effect the {@link ParticleEffect} that should be converted.
+	 * @return the Bukkit {@link Particle} or {@code null} if it doesn't exist in the current version.
+	 */
+	public static Particle toBukkit(ParticleEffect effect) {
+		return BUKKIT_PARTICLES.get(effect);
 	}
 
 	/**
-	 * Displays the given particle to all players.
+	 * Displays the given particle to every recipient of the {@link Audience}. The
+	 * nms packet is only created when the Bukkit api isn't used, otherwise the
+	 * offsets, speed and {@link ParticleData} of the packet are passed to
+	 * {@code spawnParticle}. Recipients are thinned and rate limited by their
+	 * {@link ParticlePreferences}.
+	 *
+	 * @param packet   the {@link ParticlePacket} that should be displayed.
+	 * @param location the {@link Location} of the particle.
+	 * @param audience the {@link Audience} that should receive the particle packet.
 	 */
-	public static void display(Object packet, ParticleEffect effect, Location location, int amount) {
-		List<Player> players = Objects.requireNonNull(location.getWorld()).getPlayers();
+	public static void display(ParticlePacket packet, Location location, Audience audience) {
+		display(packet, location, audience, LevelOfDetail.NONE);
+	}
+
+	/**
+	 * Displays the given particle to every recipient of the {@link Audience} and
+	 * reduces the particles far away recipients receive with the given {@link LevelOfDetail}.
+	 *
+	 * @param packet   the {@link ParticlePacket} that should be displayed.
+	 * @param location the {@link Location} of the particle.
+	 * @param audience the {@link Audience} that should receive the particle packet.
+	 * @param detail   the {@link LevelOfDetail} of the recipients.
+	 */
+	public static void display(ParticlePacket packet, Location location, Audience audience, LevelOfDetail detail) {
+		if (routeToRegion(location, copy -> display(packet, copy, audience, detail)))
+			return;
+
+		ParticleRecorder.record(packet, location);
 
 		if (ParticleEffect.USE_API) {
-			players.forEach(player -> player.spawnParticle(toBukkit(effect), location, amount));
+			spawnParticle(packet, location, audience, detail);
+			return;
+		}
+
+		ParticleEffect effect = packet.getParticle();
+		if (detail.isEmpty()) {
+			Object nmsPacket = packet.createPacket(location);
+			if (nmsPacket == null)
+				return;
+
+			audience.forEach(location, player -> {
+				if (isInRange(player, location) && ParticleDeduplicator.accept(player, packet, location)
+						&& ParticlePreferences.accept(player, effect, location))
+					PacketUtils.sendPacket(player, nmsPacket);
+			});
 			return;
 		}
 
-		players.forEach(p -> PacketUtils.sendPacket(p, packet));
+		// The last slot holds the packet with the original amount, the others the scaled packet of every band.
+		Object[] packets = new Object[detail.getBands() + 1];
+		Location position = new Location(null, 0, 0, 0);
+		audience.forEach(location, player -> {
+			if (!isInRange(player, location))
+				return;
+
+			int band = detail.getBand(player.getLocation(position).distanceSquared(location));
+			if (band == -1 || !detail.keeps(band, effect, location.getX(), location.getY(), location.getZ())
+					|| !ParticleDeduplicator.accept(player, packet, location) || !ParticlePreferences.accept(player, effect, location))
+				return;
+
+			int amount = detail.getAmount(band, packet.getAmount());
+			int slot = amount == packet.getAmount() ? packets.length - 1 : band;
+			Object nmsPacket = packets[slot];
+			if (nmsPacket == null) {
+				ParticlePacket scaled = slot == band ? new ParticlePacket(effect, packet.getOffsetX(), packet.getOffsetY(), packet.getOffsetZ(), packet.getSpeed(), amount, packet.getParticleData()) : packet;
+				nmsPacket = packets[slot] = scaled.createPacket(location);
+				if (nmsPacket == null)
+					return;
+			}
+			PacketUtils.sendPacket(player, nmsPacket);
+		});
 	}
 
 	/**
-	 * Displays the given particle to the players in the array.
+	 * Displays the given {@link ParticlePacket} through the Bukkit api. Colors of
+	 * non dust particles, and of all particles before 1.13, are encoded in the
+	 * offsets just like in the nms packet.
 	 *
-	 * @param players The players that should see the particle.
+	 * @param packet   the {@link ParticlePacket} that should be displayed.
+	 * @param location the {@link Location} of the particle.
+	 * @param audience the {@link Audience} that should receive the particle.
+	 * @param detail   the {@link LevelOfDetail} of the recipients.
 	 */
-	public static void display(Object packet, ParticleEffect effect, Location location, int amount, Player... players) {
+	private static void spawnParticle(ParticlePacket packet, Location location, Audience audience, LevelOfDetail detail) {
+		BukkitParticle bukkitParticle = toBukkitParticle(packet);
+		if (bukkitParticle == null)
+			return;
+
+		ParticleEffect effect = packet.getParticle();
+		Particle particle = bukkitParticle.particle;
+		double x = location.getX(), y = location.getY(), z = location.getZ();
+		double dx = bukkitParticle.offsetX, dy = bukkitParticle.offsetY, dz = bukkitParticle.offsetZ, extra = bukkitParticle.speed;
+		int count = bukkitParticle.amount;
+		Object options = bukkitParticle.data;
+
+		if (detail.isEmpty()) {
+			audience.forEach(location, player -> {
+				if (isInRange(player, location) && ParticleDeduplicator.accept(player, packet, location)
+						&& ParticlePreferences.accept(player, effect, location)) {
+					player.spawnParticle(particle, x, y, z, count, dx, dy, dz, extra, options);
+					ParticleMetrics.recordSent(player, 1);
+				}
+			});
+			return;
+		}
+
+		Location position = new Location(null, 0, 0, 0);
+		audience.forEach(location, player -> {
+			if (!isInRange(player, location))
+				return;
+
+			int band = detail.getBand(player.getLocation(position).distanceSquared(location));
+			if (band == -1 || !detail.keeps(band, effect, x, y, z)
+					|| !ParticleDeduplicator.accept(player, packet, location) || !ParticlePreferences.accept(player, effect, location))
+				return;
+
+			player.spawnParticle(particle, x, y, z, detail.getAmount(band, count), dx, dy, dz, extra, options);
+			ParticleMetrics.recordSent(player, 1);
+		});
+	}
+
+	/**
+	 * Converts the given {@link ParticlePacket} into the arguments of {@code spawnParticle}.
+	 * Colors of non dust particles, and of all particles before 1.13, are encoded
+	 * in the offsets just like in the nms packet.
+	 *
+	 * @param packet the {@link ParticlePacket} that should be converted.
+	 * @return the arguments or {@code null} if the particle can't be displayed.
+	 */
+	private static BukkitParticle toBukkitParticle(ParticlePacket packet) {
+		ParticleEffect effect = packet.getParticle();
+		Particle particle = toBukkit(effect);
+		if (particle == null)
+			return null;
+
+		ParticleData data = packet.getParticleData();
+		BukkitParticle bukkitParticle = new BukkitParticle(particle, packet);
+		if (data != null) {
+			if (data.getEffect() != effect)
+				return null;
+			// Dust options only exist since 1.13, older versions encode the redstone color in the offsets as well.
+			if (data instanceof ParticleColor && (!effect.hasProperty(PropertyType.DUST) || !PacketUtils.supports(13))) {
+				ParticleColor color = (ParticleColor) data;
+				bukkitParticle.offsetX = effect == ParticleEffect.REDSTONE && color.getRed() == 0 ? Float.MIN_NORMAL : color.getRed();
+				bukkitParticle.offsetY = color.getGreen();
+				bukkitParticle.offsetZ = color.getBlue();
+				if (!(data instanceof NoteColor)) {
+					bukkitParticle.speed = 1;
+					bukkitParticle.amount = 0;
+				}
+			} else {
+				bukkitParticle.data = data.getBukkitData();
+				if (bukkitParticle.data == null || !particle.getDataType().isInstance(bukkitParticle.data))
+					return null;
+			}
+		}
+		return bukkitParticle;
+	}
+
+	/**
+	 * Displays many particles at once, e.g. the points of a shape or an image. The
+	 * recipients are resolved once at the given origin instead of for every point,
+	 * and the points are read from primitive arrays, so no object is created per
+	 * point on the Bukkit api path. Recipients are still thinned and rate limited
+	 * by their {@link ParticlePreferences} for every point.
+	 *
+	 * @param packets   the {@link ParticlePacket ParticlePackets} of the points.
+	 * @param indices   the index of the packet of every point, or {@code null} to use the first packet for all points.
+	 * @param positions the x, y and z coordinates of every point.
+	 * @param count     the amount of points.
+	 * @param origin    the {@link Location} the recipients are resolved at.
+	 * @param audience  the {@link Audience} that should receive the particles.
+	 */
+	public static void display(ParticlePacket[] packets, byte[] indices, double[] positions, int count, Location origin, Audience audience) {
+		display(packets, null, indices, positions, count, origin, audience);
+	}
+
+	/**
+	 * Converts the given packets into the arguments of {@code spawnParticle} once,
+	 * so callers that display the same packets repeatedly can keep the result and
+	 * pass it to {@link #display(ParticlePacket[], BukkitParticle[], byte[], double[], int, Location, Audience)}.
+	 * Only needed on the Bukkit api path.
+	 *
+	 * @param packets the {@link ParticlePacket ParticlePackets} that should be converted.
+	 * @return the converted packets, {@code null} for packets that can't be displayed.
+	 */
+	public static BukkitParticle[] prepare(ParticlePacket[] packets) {
+		BukkitParticle[] particles = new BukkitParticle[packets.length];
+		for (int i = 0; i < packets.length; i++)
+			particles[i] = toBukkitParticle(packets[i]);
+		return particles;
+	}
+
+	/**
+	 * Displays many particles at once with packets that were already converted by
+	 * {@link #prepare(ParticlePacket[])}.
+	 *
+	 * @param packets   the {@link ParticlePacket ParticlePackets} of the points.
+	 * @param prepared  the result of {@link #prepare(ParticlePacket[])} for the packets, or {@code null}
+	 *                  to convert them during this call.
+	 * @param indices   the index of the packet of every point, or {@code null} to use the first packet for all points.
+	 * @param positions the x, y and z coordinates of every point.
+	 * @param count     the amount of points.
+	 * @param origin    the {@link Location} the recipients are resolved at.
+	 * @param audience  the {@link Audience} that should receive the particles.
+	 * @see #display(ParticlePacket[], byte[], double[], int, Location, Audience)
+	 */
+	public static void display(ParticlePacket[] packets, BukkitParticle[] prepared, byte[] indices, double[] positions, int count, Location origin, Audience audience) {
+		if (SchedulerUtils.isRegionized() && !SchedulerUtils.isOwnedByCurrentRegion(origin)) {
+			// Callers usually reuse their arrays after displaying, so the deferred display gets its own.
+			ParticlePacket[] packetsCopy = packets.clone();
+			BukkitParticle[] preparedCopy = prepared == null ? null : prepared.clone();
+			byte[] indicesCopy = indices == null ? null : Arrays.copyOf(indices, count);
+			double[] positionsCopy = Arrays.copyOf(positions, count * 3);
+			Location copy = origin.clone();
+			SchedulerUtils.runAt(copy, () -> display(packetsCopy, preparedCopy, indicesCopy, positionsCopy, count, copy, audience));
+			return;
+		}
+
+		List<Player> recipients = new ArrayList<>();
+		audience.forEach(origin, player -> {
+			if (isInRange(player, origin))
+				recipients.add(player);
+		});
+		if (recipients.isEmpty())
+			return;
+
+		int[] sent = new int[recipients.size()];
 		if (ParticleEffect.USE_API) {
-			Arrays.asList(players).forEach(player -> player.spawnParticle(toBukkit(effect), location, amount));
+			BukkitParticle[] particles = prepared != null ? prepared : new BukkitParticle[packets.length];
+			for (int i = 0; i < count; i++) {
+				int index = indices == null ? 0 : indices[i] & 0xFF;
+				BukkitParticle particle = particles[index];
+				if (particle == null && (prepared != null || (particle = particles[index] = toBukkitParticle(packets[index])) == null))
+					continue;
+
+				double x = positions[i * 3], y = positions[i * 3 + 1], z = positions[i * 3 + 2];
+				for (int j = 0; j < sent.length; j++) {
+					Player player = recipients.get(j);
+					if (ParticlePreferences.accept(player, particle.effect, x, y, z)) {
+						player.spawnParticle(particle.particle, x, y, z, particle.amount, particle.offsetX, particle.offsetY, particle.offsetZ, particle.speed, particle.data);
+						sent[j]++;
+					}
+				}
+			}
+
+			for (int j = 0; j < sent.length; j++)
+				ParticleMetrics.recordSent(recipients.get(j), sent[j]);
 			return;
 		}
 
-		display(packet, effect, location, amount, Arrays.asList(players));
+		Location position = origin.clone();
+		for (int i = 0; i < count; i++) {
+			ParticlePacket packet = packets[indices == null ? 0 : indices[i] & 0xFF];
+			double x = positions[i * 3], y = positions[i * 3 + 1], z = positions[i * 3 + 2];
+			position.setX(x);
+			position.setY(y);
+			position.setZ(z);
+			Object nmsPacket = null;
+			for (Player player : recipients) {
+				if (!ParticlePreferences.accept(player, packet.getParticle(), x, y, z))
+					continue;
+				if (nmsPacket == null && (nmsPacket = packet.createPacket(position)) == null)
+					break;
+				PacketUtils.sendPacket(player, nmsPacket);
+			}
+		}
+	}
+
+	/**
+	 * Displays the given particle to all players.
+	 */
+	public static void display(Object packet, ParticleEffect effect, Location location, int amount) {
+		display(packet, effect, location, amount, Audience.world());
+	}
+
+	/**
+	 * Displays the given particle to the players in the array.
+	 *
+	 * @param players The players that should see the particle.
+	 */
+	public static void display(Object packet, ParticleEffect effect, Location location, int amount, Player... players) {
+		display(packet, effect, location, amount, Audience.of(players));
 	}
 
 	/**
@@ -76,15 +373,7 @@ public final class NMSUtils {
 	 *               specific {@link Player Players}.
 	 */
 	public static void display(Object packet, ParticleEffect effect, Location location, int amount, Predicate<Player> filter) {
-		if (ParticleEffect.USE_API) {
-			Bukkit.getOnlinePlayers().stream().filter(filter).forEach(player -> player.spawnParticle(toBukkit(effect), location, amount));
-			return;
-		}
-
-		Bukkit.getOnlinePlayers()
-				.stream()
-				.filter(p -> filter.test(p) && p.getWorld().equals(location.getWorld()))
-				.forEach(p -> PacketUtils.sendPacket(p, packet));
+		display(packet, effect, location, amount, Audience.matching(filter));
 	}
 
 	/**
@@ -93,13 +382,93 @@ public final class NMSUtils {
 	 * @param players a list of players that should receive the particle packet.
 	 */
 	public static void display(Object packet, ParticleEffect effect, Location location, int amount, Collection<? extends Player> players) {
+		display(packet, effect, location, amount, Audience.of(players));
+	}
+
+	/**
+	 * Displays the given particle to every recipient of the {@link Audience} that
+	 * is in the world of the particle.
+	 *
+	 * @param audience the {@link Audience} that should receive the particle packet.
+	 */
+	public static void display(Object packet, ParticleEffect effect, Location location, int amount, Audience audience) {
+		if (routeToRegion(location, copy -> display(packet, effect, copy, amount, audience)))
+			return;
+
 		if (ParticleEffect.USE_API) {
-			players.forEach(player -> player.spawnParticle(toBukkit(effect), location, amount));
+			Particle particle = toBukkit(effect);
+			if (particle == null)
+				return;
+			audience.forEach(location, player -> {
+				if (isInRange(player, location) && ParticlePreferences.accept(player, effect, location))
+					player.spawnParticle(particle, location, amount);
+			});
 			return;
 		}
 
-		players.stream()
-				.filter(p -> p.getWorld().equals(location.getWorld()))
-				.forEach(p -> PacketUtils.sendPacket(p, packet));
+		if (packet == null)
+			return;
+
+		audience.forEach(location, player -> {
+			if (isInRange(player, location) && ParticlePreferences.accept(player, effect, location))
+				PacketUtils.sendPacket(player, packet);
+		});
+	}
+
+	/**
+	 * Hands the emission over to the scheduler of the region that owns the given
+	 * {@link Location} when it's called from another thread on Folia. The emission
+	 * receives a copy of the location, since callers usually move the original
+	 * right after displaying.
+	 *
+	 * @param location the {@link Location} of the particle.
+	 * @param display  the emission that should run on the owning region.
+	 * @return {@code true} if the emission was scheduled and must not run now.
+	 */
+	private static boolean routeToRegion(Location location, Consumer<Location> display) {
+		if (!SchedulerUtils.isRegionized() || SchedulerUtils.isOwnedByCurrentRegion(location))
+			return false;
+
+		Location copy = location.clone();
+		SchedulerUtils.runAt(copy, () -> display.accept(copy));
+		return true;
+	}
+
+	/**
+	 * Checks if the given {@link Player} can see a particle at the given {@link Location}.
+	 * On Folia only players owned by the current region are considered, which are also
+	 * the only ones whose world and position can be read safely from this thread.
+	 *
+	 * @param player   the {@link Player} that should be checked.
+	 * @param location the {@link Location} of the particle.
+	 * @return {@code true} if the player should receive the particle.
+	 */
+	public static boolean isInRange(Player player, Location location) {
+		if (SchedulerUtils.FOLIA)
+			return SchedulerUtils.isOwnedByCurrentRegion(player);
+		return player.getWorld().equals(location.getWorld());
+	}
+
+	/**
+	 * The arguments of {@code spawnParticle} for a {@link ParticlePacket}, see
+	 * {@link #prepare(ParticlePacket[])}.
+	 */
+	public static final class BukkitParticle {
+
+		private final Particle particle;
+		private final ParticleEffect effect;
+		private double offsetX, offsetY, offsetZ, speed;
+		private int amount;
+		private Object data;
+
+		BukkitParticle(Particle particle, ParticlePacket packet) {
+			this.particle = particle;
+			this.effect = packet.getParticle();
+			this.offsetX = packet.getOffsetX();
+			this.offsetY = packet.getOffsetY();
+			this.offsetZ = packet.getOffsetZ();
+			this.speed = packet.getSpeed();
+			this.amount = packet.getAmount();
+		}
 	}
-}
\ No newline at end of file
+}
@@ -18,6 +18,8 @@
 
 package dev.despical.particle.utils;
 
+import dev.despical.particle.audience.RecipientSnapshot;
+import dev.despical.particle.metrics.ParticleMetrics;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
@@ -26,8 +28,9 @@ import javax.annotation.Nullable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
-import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -140,6 +143,18 @@ public final class PacketUtils {
      * is where {@code ProtocolLib} controls packets by injecting channels!
      */
     private static final MethodHandle SEND_PACKET;
+    /**
+     * Runs the asynchronous packet sends of {@link #sendPacket(Player, Object...)}.
+     * Uses virtual threads when they're available (Java 21+) and a small dedicated
+     * pool of daemon threads otherwise, so blocking sends never starve the common pool.
+     */
+    private static volatile Executor senderExecutor = createDefaultExecutor();
+    /**
+     * The pending sends of each player. Only one task per player runs on the {@link #senderExecutor}
+     * at a time, so packets reach a player in the order they were sent, whatever the executor is.
+     * A stream is removed as soon as it's drained.
+     */
+    private static final Map<UUID, SenderStream> SENDER_STREAMS = new ConcurrentHashMap<>();
 
     static {
         Class<?> entityPlayer = getNMSClass("server.level", "EntityPlayer");
@@ -232,7 +247,8 @@ public final class PacketUtils {
 
     /**
      * Sends a packet to the player asynchronously if they're online.
-     * Packets are thread-safe.
+     * Packets are thread-safe. Sends to the same player are run one after
+     * another in the order of the calls, sends to different players run in parallel.
      *
      * @param player  the player to send the packet to.
      * @param packets the packets to send.
@@ -242,11 +258,86 @@ public final class PacketUtils {
      */
     @Nonnull
     public static CompletableFuture<Void> sendPacket(@Nonnull Player player, @Nonnull Object... packets) {
-        return CompletableFuture.runAsync(() -> sendPacketSync(player, packets))
-            .exceptionally(ex -> {
-                ex.printStackTrace();
-                return null;
-            });
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                sendPacketSync(player, packets);
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+            } finally {
+                future.complete(null);
+            }
+        };
+
+        UUID id = player.getUniqueId();
+        boolean[] schedule = new boolean[1];
+        SenderStream stream = SENDER_STREAMS.compute(id, (key, current) -> {
+            if (current == null) current = new SenderStream(id);
+
+            current.tasks.add(task);
+            if (!current.scheduled) {
+                current.scheduled = true;
+                schedule[0] = true;
+            }
+            return current;
+        });
+
+        if (schedule[0]) {
+            try {
+                senderExecutor.execute(stream);
+            } catch (RejectedExecutionException ex) {
+                // Sending on the caller thread keeps the stream alive instead of stranding its tasks.
+                stream.run();
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Gets the {@link Executor} that is used by {@link #sendPacket(Player, Object...)}.
+     *
+     * @return the current sender executor.
+     */
+    @Nonnull
+    public static Executor getSenderExecutor() {
+        return senderExecutor;
+    }
+
+    /**
+     * Replaces the {@link Executor} that is used by {@link #sendPacket(Player, Object...)}.
+     * The previous executor is not shut down.
+     *
+     * @param executor the new sender executor.
+     */
+    public static void setSenderExecutor(@Nonnull Executor executor) {
+        senderExecutor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Creates the default sender executor. Virtual threads are looked up reflectively
+     * to keep the library compatible with Java 8.
+     *
+     * @return a virtual thread per task executor on Java 21+, a bounded platform pool otherwise.
+     */
+    private static Executor createDefaultExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+        }
+
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(8192),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ParticleLib Packet Sender #" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // Sending on the caller thread throttles producers instead of dropping packets.
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
@@ -259,18 +350,38 @@ public final class PacketUtils {
      */
     public static void sendPacketSync(@Nonnull Player player, @Nonnull Object... packets) {
         try {
-            Object handle = GET_HANDLE.invoke(player);
-            Object connection = PLAYER_CONNECTION.invoke(handle);
+            Object connection = RecipientSnapshot.getCachedConnection(player);
+            if (connection == null)
+                connection = PLAYER_CONNECTION.invoke(GET_HANDLE.invoke(player));
 
             // Checking if the connection is not null is enough. There is no need to check if the player is online.
             if (connection != null) {
                 for (Object packet : packets) SEND_PACKET.invoke(connection, packet);
+                ParticleMetrics.recordSent(player, packets.length);
+            } else {
+                ParticleMetrics.recordDropped(player, packets.length);
             }
         } catch (Throwable throwable) {
+            ParticleMetrics.recordDropped(player, packets.length);
             throwable.printStackTrace();
         }
     }
 
+    /**
+     * Resolves the nms connection of the player, e.g. to cache it in a {@link RecipientSnapshot}.
+     *
+     * @param player the player whose connection should be resolved.
+     * @return the connection or null if the player is offline or it couldn't be resolved.
+     */
+    @Nullable
+    public static Object getConnection(@Nonnull Player player) {
+        try {
+            return PLAYER_CONNECTION.invoke(GET_HANDLE.invoke(player));
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
     /**
      * Get a CraftBukkit (org.bukkit.craftbukkit) class.
      *
@@ -286,6 +397,45 @@ public final class PacketUtils {
         }
     }
 
+    /**
+     * The queued sends of a single player, drained by one executor task at a time.
+     * Tasks are only added and the stream is only removed inside {@link ConcurrentHashMap#compute},
+     * so a new stream for the player can't be created while this one still has work.
+     */
+    private static final class SenderStream implements Runnable {
+
+        private final UUID id;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private SenderStream(UUID id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task = poll();
+                if (task == null) return;
+
+                task.run();
+            }
+        }
+
+        @Nullable
+        private Runnable poll() {
+            Runnable[] next = new Runnable[1];
+            SENDER_STREAMS.compute(id, (key, current) -> {
+                next[0] = tasks.poll();
+                if (next[0] != null) return current;
+
+                scheduled = false;
+                return null;
+            });
+            return next[0];
+        }
+    }
+
     public static final class VersionHandler<T> {
 
         private int version, patch;
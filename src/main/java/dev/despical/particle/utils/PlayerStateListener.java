@@ -0,0 +1,46 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.utils;
+
+import dev.despical.particle.audience.ParticlePreferences;
+import dev.despical.particle.metrics.ParticleMetrics;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.UUID;
+
+/**
+ * Removes the state the library keeps for a player once they quit. Registered by
+ * {@link SchedulerUtils#init(org.bukkit.plugin.Plugin)}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+final class PlayerStateListener implements Listener {
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onQuit(PlayerQuitEvent event) {
+		UUID uuid = event.getPlayer().getUniqueId();
+		ParticleMetrics.forget(uuid);
+		ParticlePreferences.remove(uuid);
+	}
+}
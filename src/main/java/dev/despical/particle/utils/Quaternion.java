@@ -0,0 +1,210 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.utils;
+
+/**
+ * A mutable rotation quaternion used to build {@link Transform Transforms}.
+ * All angles are in radians and rotations are counterclockwise around their
+ * axis when looking at the origin from the positive end of the axis.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class Quaternion {
+
+	private float x, y, z, w;
+
+	/**
+	 * Creates a new {@link Quaternion} without any rotation.
+	 */
+	public Quaternion() {
+		this.w = 1;
+	}
+
+	/**
+	 * Creates a new {@link Quaternion} with the given components.
+	 *
+	 * @param x the x component.
+	 * @param y the y component.
+	 * @param z the z component.
+	 * @param w the w component.
+	 */
+	public Quaternion(float x, float y, float z, float w) {
+		set(x, y, z, w);
+	}
+
+	/**
+	 * Sets the components of this quaternion.
+	 *
+	 * @param x the x component.
+	 * @param y the y component.
+	 * @param z the z component.
+	 * @param w the w component.
+	 * @return this quaternion.
+	 */
+	public Quaternion set(float x, float y, float z, float w) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		return this;
+	}
+
+	/**
+	 * Resets this quaternion to no rotation.
+	 *
+	 * @return this quaternion.
+	 */
+	public Quaternion identity() {
+		return set(0, 0, 0, 1);
+	}
+
+	/**
+	 * Sets this quaternion to a rotation around the given axis.
+	 *
+	 * @param angle the angle of the rotation.
+	 * @param axisX the x component of the axis.
+	 * @param axisY the y component of the axis.
+	 * @param axisZ the z component of the axis.
+	 * @return this quaternion.
+	 */
+	public Quaternion setAxisAngle(float angle, float axisX, float axisY, float axisZ) {
+		float length = (float) Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+		if (length == 0)
+			return identity();
+
+		float sin = (float) Math.sin(angle / 2) / length;
+		return set(axisX * sin, axisY * sin, axisZ * sin, (float) Math.cos(angle / 2));
+	}
+
+	/**
+	 * Rotates this quaternion around the x axis after its current rotation.
+	 *
+	 * @param angle the angle of the rotation.
+	 * @return this quaternion.
+	 */
+	public Quaternion rotateX(float angle) {
+		float sin = (float) Math.sin(angle / 2), cos = (float) Math.cos(angle / 2);
+		return set(cos * x + sin * w, cos * y - sin * z, cos * z + sin * y, cos * w - sin * x);
+	}
+
+	/**
+	 * Rotates this quaternion around the y axis after its current rotation.
+	 *
+	 * @param angle the angle of the rotation.
+	 * @return this quaternion.
+	 */
+	public Quaternion rotateY(float angle) {
+		float sin = (float) Math.sin(angle / 2), cos = (float) Math.cos(angle / 2);
+		return set(cos * x + sin * z, cos * y + sin * w, cos * z - sin * x, cos * w - sin * y);
+	}
+
+	/**
+	 * Rotates this quaternion around the z axis after its current rotation.
+	 *
+	 * @param angle the angle of the rotation.
+	 * @return this quaternion.
+	 */
+	public Quaternion rotateZ(float angle) {
+		float sin = (float) Math.sin(angle / 2), cos = (float) Math.cos(angle / 2);
+		return set(cos * x - sin * y, cos * y + sin * x, cos * z + sin * w, cos * w - sin * z);
+	}
+
+	/**
+	 * Applies the given rotation after the rotation of this quaternion.
+	 *
+	 * @param other the {@link Quaternion} that should be applied afterwards.
+	 * @return this quaternion.
+	 */
+	public Quaternion rotate(Quaternion other) {
+		return set(other.w * x + other.x * w + other.y * z - other.z * y,
+			other.w * y - other.x * z + other.y * w + other.z * x,
+			other.w * z + other.x * y - other.y * x + other.z * w,
+			other.w * w - other.x * x - other.y * y - other.z * z);
+	}
+
+	/**
+	 * Normalizes this quaternion, which avoids drifting after many rotations.
+	 *
+	 * @return this quaternion.
+	 */
+	public Quaternion normalize() {
+		float length = (float) Math.sqrt(x * x + y * y + z * z + w * w);
+		return length == 0 ? identity() : set(x / length, y / length, z / length, w / length);
+	}
+
+	/**
+	 * Spherically interpolates between this and the given rotation.
+	 *
+	 * @param target the {@link Quaternion} the interpolation ends at.
+	 * @param alpha  the progress of the interpolation. <b>(Range 0.0-1.0)</b>
+	 * @return this quaternion.
+	 */
+	public Quaternion slerp(Quaternion target, float alpha) {
+		float cos = x * target.x + y * target.y + z * target.z + w * target.w;
+		// Both q and -q describe the same rotation, interpolating towards the closer one takes the shorter path.
+		float sign = cos < 0 ? -1 : 1;
+		cos *= sign;
+
+		float from = 1 - alpha, to = alpha * sign;
+		if (cos < 0.9995F) {
+			float angle = (float) Math.acos(cos), sin = (float) Math.sin(angle);
+			from = (float) Math.sin(from * angle) / sin;
+			to = (float) Math.sin(alpha * angle) / sin * sign;
+		}
+		return set(from * x + to * target.x, from * y + to * target.y, from * z + to * target.z, from * w + to * target.w).normalize();
+	}
+
+	/**
+	 * Gets the x component of this quaternion.
+	 *
+	 * @return the x component.
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Gets the y component of this quaternion.
+	 *
+	 * @return the y component.
+	 */
+	public float getY() {
+		return y;
+	}
+
+	/**
+	 * Gets the z component of this quaternion.
+	 *
+	 * @return the z component.
+	 */
+	public float getZ() {
+		return z;
+	}
+
+	/**
+	 * Gets the w component of this quaternion.
+	 *
+	 * @return the w component.
+	 */
+	public float getW() {
+		return w;
+	}
+}
@@ -18,6 +18,7 @@
 package dev.despical.particle.utils;
 
 import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.metrics.ParticleFailures;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -225,7 +226,7 @@ public final class ReflectionUtils {
 		try {
 			return (T) field.get(object);
 		} catch (Exception ex) {
-			return null;
+			return ParticleFailures.fail(ex);
 		}
 	}
 
@@ -257,7 +258,7 @@ public final class ReflectionUtils {
 		try {
 			return ParticleConstants.MINECRAFT_KEY_CONSTRUCTOR.newInstance(key);
 		} catch (Exception ex) {
-			return null;
+			return ParticleFailures.fail(ex);
 		}
 	}
 
@@ -273,7 +274,7 @@ public final class ReflectionUtils {
 		try {
 			return ParticleConstants.VECTOR_3FA_CONSTRUCTOR.newInstance(x, y, z);
 		} catch (Exception ex) {
-			return null;
+			return ParticleFailures.fail(ex);
 		}
 	}
 
@@ -287,7 +288,7 @@ public final class ReflectionUtils {
 		try {
 			return BLOCK_POSITION_CONSTRUCTOR.newInstance(location.getBlockX(), location.getBlockY(), location.getBlockZ());
 		} catch (Exception ex) {
-			return null;
+			return ParticleFailures.fail(ex);
 		}
 	}
 
@@ -303,7 +304,7 @@ public final class ReflectionUtils {
 		try {
 			return ParticleConstants.CRAFT_ENTITY_GET_HANDLE_METHOD.invoke(entity);
 		} catch (Exception ex) {
-			return null;
+			return ParticleFailures.fail(ex);
 		}
 	}
 
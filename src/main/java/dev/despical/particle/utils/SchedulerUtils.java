@@ -0,0 +1,290 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Schedules the work of the library on the thread that owns it. On Spigot and
+ * Paper that is the main thread, on Folia it's the thread of the region that
+ * owns the location or entity.
+ * <p>
+ * Folia classes are not part of the Spigot API, so the schedulers are reached
+ * through {@link MethodHandle MethodHandles} that are resolved once.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class SchedulerUtils {
+
+	/**
+	 * Whether the server is running Folia, where every region ticks on its own thread.
+	 */
+	public static final boolean FOLIA = ReflectionUtils.getClassSafe("io.papermc.paper.threadedregions.RegionizedServer") != null;
+
+	private static final MethodHandle IS_OWNED_LOCATION, IS_OWNED_ENTITY;
+	private static final MethodHandle REGION_EXECUTE, REGION_RUN_AT_FIXED_RATE, GLOBAL_RUN_AT_FIXED_RATE, ENTITY_RUN_AT_FIXED_RATE, TASK_CANCEL;
+	private static final Object REGION_SCHEDULER, GLOBAL_SCHEDULER;
+
+	/**
+	 * The plugin the library schedules its tasks for.
+	 */
+	private static volatile Plugin plugin;
+	private static Listener playerStateListener;
+
+	static {
+		MethodHandle ownedLocation = null, ownedEntity = null, regionExecute = null, regionFixedRate = null, globalFixedRate = null, entityFixedRate = null, cancel = null;
+		Object regionScheduler = null, globalScheduler = null;
+
+		if (FOLIA) {
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			try {
+				Class<?> regionClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+				Class<?> globalClass = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+				Class<?> entityClass = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+				Class<?> taskClass = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+
+				ownedLocation = lookup.findStatic(Bukkit.class, "isOwnedByCurrentRegion", MethodType.methodType(boolean.class, Location.class));
+				ownedEntity = lookup.findStatic(Bukkit.class, "isOwnedByCurrentRegion", MethodType.methodType(boolean.class, Entity.class));
+				regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
+				globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+				regionExecute = lookup.findVirtual(regionClass, "execute", MethodType.methodType(void.class, Plugin.class, Location.class, Runnable.class));
+				regionFixedRate = lookup.findVirtual(regionClass, "runAtFixedRate", MethodType.methodType(taskClass, Plugin.class, Location.class, Consumer.class, long.class, long.class));
+				globalFixedRate = lookup.findVirtual(globalClass, "runAtFixedRate", MethodType.methodType(taskClass, Plugin.class, Consumer.class, long.class, long.class));
+				entityFixedRate = lookup.findVirtual(entityClass, "runAtFixedRate", MethodType.methodType(taskClass, Plugin.class, Consumer.class, Runnable.class, long.class, long.class));
+				cancel = lookup.findVirtual(taskClass, "cancel", MethodType.methodType(Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask$CancelledState")));
+			} catch (Exception ex) {
+				throw new IllegalStateException("Failed to hook into the Folia schedulers", ex);
+			}
+		}
+
+		IS_OWNED_LOCATION = ownedLocation;
+		IS_OWNED_ENTITY = ownedEntity;
+		REGION_EXECUTE = regionExecute;
+		REGION_RUN_AT_FIXED_RATE = regionFixedRate;
+		GLOBAL_RUN_AT_FIXED_RATE = globalFixedRate;
+		ENTITY_RUN_AT_FIXED_RATE = entityFixedRate;
+		TASK_CANCEL = cancel;
+		REGION_SCHEDULER = regionScheduler;
+		GLOBAL_SCHEDULER = globalScheduler;
+	}
+
+	private SchedulerUtils() {
+	}
+
+	/**
+	 * Sets the plugin the library schedules its tasks for. On Folia this also enables
+	 * region aware dispatching in {@link NMSUtils}, and registers the listener that
+	 * removes the per-player state of the library once a player quits.
+	 *
+	 * @param plugin the plugin that shades the library.
+	 */
+	public static void init(Plugin plugin) {
+		Objects.requireNonNull(plugin);
+		synchronized (SchedulerUtils.class) {
+			if (plugin == SchedulerUtils.plugin)
+				return;
+
+			if (playerStateListener != null)
+				HandlerList.unregisterAll(playerStateListener);
+			playerStateListener = new PlayerStateListener();
+			Bukkit.getPluginManager().registerEvents(playerStateListener, plugin);
+			SchedulerUtils.plugin = plugin;
+		}
+	}
+
+	/**
+	 * Gets the plugin the library schedules its tasks for.
+	 *
+	 * @return the plugin or {@code null} if {@link #init(Plugin)} wasn't called yet.
+	 */
+	public static Plugin getPlugin() {
+		return plugin;
+	}
+
+	/**
+	 * Checks if emissions have to be routed to the scheduler of the owning region.
+	 *
+	 * @return {@code true} on Folia once {@link #init(Plugin)} was called.
+	 */
+	public static boolean isRegionized() {
+		return FOLIA && plugin != null;
+	}
+
+	/**
+	 * Checks if the current thread may access the given {@link Location}.
+	 *
+	 * @param location the {@link Location} that should be checked.
+	 * @return {@code true} if the current thread owns the location.
+	 */
+	public static boolean isOwnedByCurrentRegion(Location location) {
+		if (!FOLIA)
+			return Bukkit.isPrimaryThread();
+		try {
+			return (boolean) IS_OWNED_LOCATION.invoke(location);
+		} catch (Throwable throwable) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks if the current thread may access the given {@link Entity}.
+	 *
+	 * @param entity the {@link Entity} that should be checked.
+	 * @return {@code true} if the current thread owns the entity.
+	 */
+	public static boolean isOwnedByCurrentRegion(Entity entity) {
+		if (!FOLIA)
+			return Bukkit.isPrimaryThread();
+		try {
+			return (boolean) IS_OWNED_ENTITY.invoke(entity);
+		} catch (Throwable throwable) {
+			return false;
+		}
+	}
+
+	/**
+	 * Runs the given task on the thread that owns the given {@link Location}.
+	 *
+	 * @param location the {@link Location} the task works with.
+	 * @param task     the task to run.
+	 */
+	public static void runAt(Location location, Runnable task) {
+		Plugin plugin = requirePlugin();
+		if (!FOLIA) {
+			Bukkit.getScheduler().runTask(plugin, task);
+			return;
+		}
+		try {
+			REGION_EXECUTE.invoke(REGION_SCHEDULER, plugin, location, task);
+		} catch (Throwable throwable) {
+			throwable.printStackTrace();
+		}
+	}
+
+	/**
+	 * Runs the given task repeatedly. On Folia the task runs on the global region thread.
+	 *
+	 * @param task   the task to run.
+	 * @param delay  the delay in ticks before the first run. (At least one tick)
+	 * @param period the period in ticks between runs.
+	 * @return a {@link Task} that can be cancelled.
+	 */
+	public static Task runTimer(Runnable task, long delay, long period) {
+		Plugin plugin = requirePlugin();
+		if (!FOLIA) {
+			BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
+			return bukkitTask::cancel;
+		}
+		try {
+			Object scheduledTask = GLOBAL_RUN_AT_FIXED_RATE.invoke(GLOBAL_SCHEDULER, plugin, (Consumer<Object>) ignored -> task.run(), Math.max(1, delay), period);
+			return () -> cancel(scheduledTask);
+		} catch (Throwable throwable) {
+			throw new IllegalStateException("Could not schedule task", throwable);
+		}
+	}
+
+	/**
+	 * Runs the given task repeatedly on the thread that owns the given {@link Location}.
+	 *
+	 * @param location the {@link Location} the task works with.
+	 * @param task     the task to run.
+	 * @param delay    the delay in ticks before the first run. (At least one tick)
+	 * @param period   the period in ticks between runs.
+	 * @return a {@link Task} that can be cancelled.
+	 */
+	public static Task runTimer(Location location, Runnable task, long delay, long period) {
+		if (!FOLIA)
+			return runTimer(task, delay, period);
+		try {
+			Object scheduledTask = REGION_RUN_AT_FIXED_RATE.invoke(REGION_SCHEDULER, requirePlugin(), location, (Consumer<Object>) ignored -> task.run(), Math.max(1, delay), period);
+			return () -> cancel(scheduledTask);
+		} catch (Throwable throwable) {
+			throw new IllegalStateException("Could not schedule task", throwable);
+		}
+	}
+
+	/**
+	 * Runs the given task repeatedly on the thread that owns the given {@link Entity}.
+	 *
+	 * @param entity  the {@link Entity} the task works with.
+	 * @param task    the task to run.
+	 * @param retired called instead of the task once the entity was removed. (Folia only)
+	 * @param delay   the delay in ticks before the first run. (At least one tick)
+	 * @param period  the period in ticks between runs.
+	 * @return a {@link Task} that can be cancelled.
+	 */
+	public static Task runTimer(Entity entity, Runnable task, Runnable retired, long delay, long period) {
+		if (!FOLIA)
+			return runTimer(task, delay, period);
+		AtomicReference<Object> scheduledTask = new AtomicReference<>();
+		try {
+			scheduledTask.set(ENTITY_RUN_AT_FIXED_RATE.invoke(getEntityScheduler(entity), requirePlugin(), (Consumer<Object>) ignored -> task.run(), retired, Math.max(1, delay), period));
+		} catch (Throwable throwable) {
+			throw new IllegalStateException("Could not schedule task", throwable);
+		}
+		return () -> cancel(scheduledTask.get());
+	}
+
+	private static Object getEntityScheduler(Entity entity) throws ReflectiveOperationException {
+		return entity.getClass().getMethod("getScheduler").invoke(entity);
+	}
+
+	private static void cancel(Object scheduledTask) {
+		if (scheduledTask == null)
+			return;
+		try {
+			TASK_CANCEL.invoke(scheduledTask);
+		} catch (Throwable ignored) {
+		}
+	}
+
+	private static Plugin requirePlugin() {
+		Plugin plugin = SchedulerUtils.plugin;
+		if (plugin == null)
+			throw new IllegalStateException("SchedulerUtils#init(Plugin) has to be called before scheduling tasks.");
+		return plugin;
+	}
+
+	/**
+	 * A handle to a scheduled repeating task.
+	 */
+	@FunctionalInterface
+	public interface Task {
+
+		/**
+		 * Stops the task from running again.
+		 */
+		void cancel();
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.utils;
+
+/**
+ * A mutable affine transformation of points, e.g. the points of a shape. The
+ * operations are applied in the order they are called, so
+ * {@code new Transform().scale(2).rotate(rotation).translate(x, y, z)} first
+ * scales, then rotates and then moves the points.
+ * <p>
+ * Points are transformed in place in {@code float[]} buffers, so no object is
+ * created per point. The loops over separate x, y and z arrays have a unit
+ * stride and no dependency between iterations, which lets the JIT compile them
+ * into SIMD instructions.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class Transform {
+
+	private float m00, m01, m02, m03;
+	private float m10, m11, m12, m13;
+	private float m20, m21, m22, m23;
+
+	/**
+	 * Creates a new {@link Transform} that doesn't change any point.
+	 */
+	public Transform() {
+		identity();
+	}
+
+	/**
+	 * Resets this transform so it doesn't change any point.
+	 *
+	 * @return this transform.
+	 */
+	public Transform identity() {
+		m00 = m11 = m22 = 1;
+		m01 = m02 = m03 = m10 = m12 = m13 = m20 = m21 = m23 = 0;
+		return this;
+	}
+
+	/**
+	 * Moves the points by the given offset.
+	 *
+	 * @param x the x offset.
+	 * @param y the y offset.
+	 * @param z the z offset.
+	 * @return this transform.
+	 */
+	public Transform translate(float x, float y, float z) {
+		m03 += x;
+		m13 += y;
+		m23 += z;
+		return this;
+	}
+
+	/**
+	 * Scales the points uniformly around the origin.
+	 *
+	 * @param scale the factor of every axis.
+	 * @return this transform.
+	 */
+	public Transform scale(float scale) {
+		return scale(scale, scale, scale);
+	}
+
+	/**
+	 * Scales the points around the origin.
+	 *
+	 * @param x the factor of the x axis.
+	 * @param y the factor of the y axis.
+	 * @param z the factor of the z axis.
+	 * @return this transform.
+	 */
+	public Transform scale(float x, float y, float z) {
+		m00 *= x; m01 *= x; m02 *= x; m03 *= x;
+		m10 *= y; m11 *= y; m12 *= y; m13 *= y;
+		m20 *= z; m21 *= z; m22 *= z; m23 *= z;
+		return this;
+	}
+
+	/**
+	 * Rotates the points around the origin.
+	 *
+	 * @param rotation the {@link Quaternion} of the rotation, it has to be normalized.
+	 * @return this transform.
+	 */
+	public Transform rotate(Quaternion rotation) {
+		float x = rotation.getX(), y = rotation.getY(), z = rotation.getZ(), w = rotation.getW();
+		float xx = x * x, yy = y * y, zz = z * z, xy = x * y, xz = x * z, yz = y * z, wx = w * x, wy = w * y, wz = w * z;
+		return multiply(1 - 2 * (yy + zz), 2 * (xy - wz), 2 * (xz + wy),
+			2 * (xy + wz), 1 - 2 * (xx + zz), 2 * (yz - wx),
+			2 * (xz - wy), 2 * (yz + wx), 1 - 2 * (xx + yy));
+	}
+
+	/**
+	 * Rotates the points around the y axis.
+	 *
+	 * @param angle the angle of the rotation in radians.
+	 * @return this transform.
+	 */
+	public Transform rotateY(float angle) {
+		float sin = (float) Math.sin(angle), cos = (float) Math.cos(angle);
+		return multiply(cos, 0, sin, 0, 1, 0, -sin, 0, cos);
+	}
+
+	/**
+	 * Applies the given transform after the operations of this one.
+	 *
+	 * @param other the {@link Transform} that should be applied afterwards.
+	 * @return this transform.
+	 */
+	public Transform then(Transform other) {
+		multiply(other.m00, other.m01, other.m02, other.m10, other.m11, other.m12, other.m20, other.m21, other.m22);
+		return translate(other.m03, other.m13, other.m23);
+	}
+
+	/**
+	 * Applies the given linear transformation after the current one.
+	 */
+	private Transform multiply(float r00, float r01, float r02, float r10, float r11, float r12, float r20, float r21, float r22) {
+		float n00 = r00 * m00 + r01 * m10 + r02 * m20, n01 = r00 * m01 + r01 * m11 + r02 * m21;
+		float n02 = r00 * m02 + r01 * m12 + r02 * m22, n03 = r00 * m03 + r01 * m13 + r02 * m23;
+		float n10 = r10 * m00 + r11 * m10 + r12 * m20, n11 = r10 * m01 + r11 * m11 + r12 * m21;
+		float n12 = r10 * m02 + r11 * m12 + r12 * m22, n13 = r10 * m03 + r11 * m13 + r12 * m23;
+		float n20 = r20 * m00 + r21 * m10 + r22 * m20, n21 = r20 * m01 + r21 * m11 + r22 * m21;
+		float n22 = r20 * m02 + r21 * m12 + r22 * m22, n23 = r20 * m03 + r21 * m13 + r22 * m23;
+
+		m00 = n00; m01 = n01; m02 = n02; m03 = n03;
+		m10 = n10; m11 = n11; m12 = n12; m13 = n13;
+		m20 = n20; m21 = n21; m22 = n22; m23 = n23;
+		return this;
+	}
+
+	/**
+	 * Transforms the given points in place.
+	 *
+	 * @param points the x, y and z coordinates of every point.
+	 * @param count  the amount of points.
+	 */
+	public void apply(float[] points, int count) {
+		// Copying the fields into locals lets the JIT keep them in registers.
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+
+		for (int i = 0, end = count * 3; i < end; i += 3) {
+			float x = points[i], y = points[i + 1], z = points[i + 2];
+			points[i] = m00 * x + m01 * y + m02 * z + m03;
+			points[i + 1] = m10 * x + m11 * y + m12 * z + m13;
+			points[i + 2] = m20 * x + m21 * y + m22 * z + m23;
+		}
+	}
+
+	/**
+	 * Transforms the given points in place. This layout is the fastest one for
+	 * large shapes, as every iteration reads and writes consecutive elements.
+	 *
+	 * @param xs    the x coordinates of every point.
+	 * @param ys    the y coordinates of every point.
+	 * @param zs    the z coordinates of every point.
+	 * @param count the amount of points.
+	 */
+	public void apply(float[] xs, float[] ys, float[] zs, int count) {
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+
+		for (int i = 0; i < count; i++) {
+			float x = xs[i], y = ys[i], z = zs[i];
+			xs[i] = m00 * x + m01 * y + m02 * z + m03;
+			ys[i] = m10 * x + m11 * y + m12 * z + m13;
+			zs[i] = m20 * x + m21 * y + m22 * z + m23;
+		}
+	}
+
+	/**
+	 * Transforms the given points into absolute positions, e.g. for
+	 * {@link NMSUtils#display(dev.despical.particle.ParticlePacket[], byte[], double[], int, org.bukkit.Location, dev.despical.particle.audience.Audience)}.
+	 * The points themselves aren't changed.
+	 *
+	 * @param points      the x, y and z coordinates of every point.
+	 * @param count       the amount of points.
+	 * @param x           the x coordinate of the origin.
+	 * @param y           the y coordinate of the origin.
+	 * @param z           the z coordinate of the origin.
+	 * @param destination the array the positions are written into.
+	 */
+	public void apply(float[] points, int count, double x, double y, double z, double[] destination) {
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+
+		for (int i = 0, end = count * 3; i < end; i += 3) {
+			float px = points[i], py = points[i + 1], pz = points[i + 2];
+			destination[i] = x + (m00 * px + m01 * py + m02 * pz + m03);
+			destination[i + 1] = y + (m10 * px + m11 * py + m12 * pz + m13);
+			destination[i + 2] = z + (m20 * px + m21 * py + m22 * pz + m23);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.VibrationData;
+import dev.despical.particle.data.texture.BlockTexture;
+import dev.despical.particle.data.texture.ItemTexture;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.utils.ReflectionUtils;
+import org.bukkit.Material;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link VersionAdapter} for every version before 1.13. Particle types are
+ * constants of the "EnumParticle" enum and textures are sent as int arrays.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+class LegacyAdapter implements VersionAdapter {
+
+	@Override
+	public Object getParticleType(String fieldName) {
+		for (Object effect : ParticleConstants.PARTICLE_ENUM.getEnumConstants()) {
+			if (effect.toString().equals(fieldName))
+				return effect;
+		}
+		return null;
+	}
+
+	@Override
+	public Object createPacket(Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount, int[] data) {
+		try {
+			return ParticleConstants.PACKET_PLAY_OUT_WORLD_PARTICLES_CONSTRUCTOR.newInstance(param, true, (float) locationX, (float) locationY, (float) locationZ, offsetX, offsetY, offsetZ, speed, amount, data);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createTexturedPacket(ParticleEffect effect, Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount) {
+		return createPacket(effect.getNMSObject(), locationX, locationY, locationZ, offsetX, offsetY, offsetZ, speed, amount, (int[]) param);
+	}
+
+	@Override
+	public boolean isParamData(ParticleData data, ParticleEffect effect) {
+		return false;
+	}
+
+	@Override
+	public boolean usesOffsetColor(ParticleEffect effect) {
+		return true;
+	}
+
+	@Override
+	public boolean usesBlockMarker() {
+		return false;
+	}
+
+	@Override
+	public Object createDustParam(ParticleEffect effect, float red, float green, float blue, float size) {
+		return new int[0];
+	}
+
+	@Override
+	public Object createDustTransitionParam(float red, float green, float blue, float fadeRed, float fadeGreen, float fadeBlue, float size) {
+		return null;
+	}
+
+	@Override
+	public Object createBlockParam(BlockTexture texture) {
+		return texture.toLegacyData();
+	}
+
+	@Override
+	public Object getBlockData(Material material) {
+		try {
+			Field blockField = ReflectionUtils.getFieldOrNull(ParticleConstants.BLOCKS_CLASS, material.name(), false);
+			if (blockField == null)
+				return null;
+			Object block = ReflectionUtils.readField(blockField, null);
+			return ParticleConstants.BLOCK_GET_BLOCK_DATA_METHOD.invoke(block);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createItemParam(ItemTexture texture) {
+		return texture.toLegacyData();
+	}
+
+	@Override
+	public Object createVibrationParam(VibrationData data) {
+		return null;
+	}
+
+	@Override
+	public Object createShriekParam(int delay) {
+		return null;
+	}
+
+	@Override
+	public Object createSculkChargeParam(float roll) {
+		return null;
+	}
+}
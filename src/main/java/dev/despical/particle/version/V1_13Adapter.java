@@ -0,0 +1,105 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.texture.BlockTexture;
+import dev.despical.particle.data.texture.ItemTexture;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.utils.ReflectionUtils;
+
+/**
+ * {@link VersionAdapter} for 1.13 and 1.14. Particles are looked up in the
+ * particle registry and carry their data in a ParticleParam. The packet
+ * still expects float coordinates.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+class V1_13Adapter extends LegacyAdapter {
+
+	@Override
+	public Object getParticleType(String fieldName) {
+		try {
+			return ParticleConstants.REGISTRY_GET_METHOD.invoke(ParticleConstants.PARTICLE_TYPE_REGISTRY, ReflectionUtils.getMinecraftKey(fieldName));
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createPacket(Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount, int[] data) {
+		try {
+			return ParticleConstants.PACKET_PLAY_OUT_WORLD_PARTICLES_CONSTRUCTOR.newInstance(param, true, (float) locationX, (float) locationY, (float) locationZ, offsetX, offsetY, offsetZ, speed, amount);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createTexturedPacket(ParticleEffect effect, Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount) {
+		return createPacket(param, locationX, locationY, locationZ, offsetX, offsetY, offsetZ, speed, amount, null);
+	}
+
+	@Override
+	public boolean isParamData(ParticleData data, ParticleEffect effect) {
+		return data instanceof DustData;
+	}
+
+	@Override
+	public boolean usesOffsetColor(ParticleEffect effect) {
+		return effect != ParticleEffect.REDSTONE;
+	}
+
+	@Override
+	public Object createDustParam(ParticleEffect effect, float red, float green, float blue, float size) {
+		if (effect != ParticleEffect.REDSTONE)
+			return null;
+		try {
+			return ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(red, green, blue, size);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createBlockParam(BlockTexture texture) {
+		Object block = getBlockData(texture.getMaterial());
+		if (block == null)
+			return null;
+		try {
+			return ParticleConstants.PARTICLE_PARAM_BLOCK_CONSTRUCTOR.newInstance(texture.getEffect().getNMSObject(), block);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createItemParam(ItemTexture texture) {
+		try {
+			return ParticleConstants.PARTICLE_PARAM_ITEM_CONSTRUCTOR.newInstance(texture.getEffect().getNMSObject(), ItemTexture.toNMSItemStack(texture.getItemStack()));
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+}
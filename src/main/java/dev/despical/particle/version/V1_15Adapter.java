@@ -0,0 +1,42 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.metrics.ParticleFailures;
+
+/**
+ * {@link VersionAdapter} for 1.15 and 1.16. The only difference to 1.13 is that
+ * the packet constructor takes double coordinates.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+class V1_15Adapter extends V1_13Adapter {
+
+	@Override
+	public Object createPacket(Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount, int[] data) {
+		try {
+			return ParticleConstants.PACKET_PLAY_OUT_WORLD_PARTICLES_CONSTRUCTOR.newInstance(param, true, locationX, locationY, locationZ, offsetX, offsetY, offsetZ, speed, amount);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+}
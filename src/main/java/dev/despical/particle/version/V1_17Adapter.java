@@ -0,0 +1,114 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.PropertyType;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.VibrationData;
+import dev.despical.particle.data.color.DustData;
+import dev.despical.particle.data.color.RegularColor;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.utils.ReflectionUtils;
+import org.bukkit.Material;
+
+import java.util.Locale;
+
+/**
+ * {@link VersionAdapter} for 1.17 and 1.18. Colors are wrapped in a Vector3f,
+ * blocks are looked up in the block registry and vibrations are supported.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+class V1_17Adapter extends V1_15Adapter {
+
+	/**
+	 * Whether {@link ParticleEffect#BLOCK_MARKER} exists in the current version.
+	 */
+	private final boolean blockMarker;
+
+	V1_17Adapter(boolean blockMarker) {
+		this.blockMarker = blockMarker;
+	}
+
+	@Override
+	public boolean isParamData(ParticleData data, ParticleEffect effect) {
+		return data instanceof DustData
+				|| data instanceof VibrationData
+				|| (data instanceof RegularColor && effect.hasProperty(PropertyType.DUST));
+	}
+
+	@Override
+	public boolean usesBlockMarker() {
+		return blockMarker;
+	}
+
+	@Override
+	public Object createDustParam(ParticleEffect effect, float red, float green, float blue, float size) {
+		Object colorVector = ReflectionUtils.createVector3fa(red, green, blue);
+		try {
+			return effect == ParticleEffect.REDSTONE
+					? ParticleConstants.PARTICLE_PARAM_REDSTONE_CONSTRUCTOR.newInstance(colorVector, size)
+					: ParticleConstants.PARTICLE_PARAM_DUST_COLOR_TRANSITION_CONSTRUCTOR.newInstance(colorVector, colorVector, size);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createDustTransitionParam(float red, float green, float blue, float fadeRed, float fadeGreen, float fadeBlue, float size) {
+		Object fadeStart = ReflectionUtils.createVector3fa(red, green, blue);
+		Object fadeEnd = ReflectionUtils.createVector3fa(fadeRed, fadeGreen, fadeBlue);
+		try {
+			return ParticleConstants.PARTICLE_PARAM_DUST_COLOR_TRANSITION_CONSTRUCTOR.newInstance(fadeStart, fadeEnd, size);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object getBlockData(Material material) {
+		try {
+			Object block = ParticleConstants.REGISTRY_GET_METHOD.invoke(ParticleConstants.BLOCK_REGISTRY, ReflectionUtils.getMinecraftKey(material.name().toLowerCase(Locale.ENGLISH)));
+			return ParticleConstants.BLOCK_GET_BLOCK_DATA_METHOD.invoke(block);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createVibrationParam(VibrationData data) {
+		Object start = ReflectionUtils.createBlockPosition(data.getStart());
+		try {
+			Object source;
+			if (data.getBlockDestination() != null) {
+				Object dest = ReflectionUtils.createBlockPosition(data.getBlockDestination());
+				source = ParticleConstants.BLOCK_POSITION_SOURCE_CONSTRUCTOR.newInstance(dest);
+			} else
+				source = ParticleConstants.ENTITY_POSITION_SOURCE_CONSTRUCTOR.newInstance(data.getEntityDestination().getEntityId());
+			Object path = ParticleConstants.VIBRATION_PATH_CONSTRUCTOR.newInstance(start, source, data.getTicks());
+			return ParticleConstants.PARTICLE_PARAM_VIBRATION_CONSTRUCTOR.newInstance(path);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleConstants;
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.SculkChargeData;
+import dev.despical.particle.data.ShriekData;
+import dev.despical.particle.data.VibrationData;
+import dev.despical.particle.metrics.ParticleFailures;
+import dev.despical.particle.utils.ReflectionUtils;
+
+/**
+ * {@link VersionAdapter} for 1.19 and newer versions. Vibrations no longer have a
+ * start position and the shriek and sculk charge particles accept custom data.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+class V1_19Adapter extends V1_17Adapter {
+
+	V1_19Adapter() {
+		super(true);
+	}
+
+	@Override
+	public boolean isParamData(ParticleData data, ParticleEffect effect) {
+		return super.isParamData(data, effect) || data instanceof ShriekData || data instanceof SculkChargeData;
+	}
+
+	@Override
+	public Object createVibrationParam(VibrationData data) {
+		try {
+			Object source;
+			if (data.getBlockDestination() != null) {
+				Object dest = ReflectionUtils.createBlockPosition(data.getBlockDestination());
+				source = ParticleConstants.BLOCK_POSITION_SOURCE_CONSTRUCTOR.newInstance(dest);
+			} else
+				source = ParticleConstants.ENTITY_POSITION_SOURCE_CONSTRUCTOR.newInstance(ReflectionUtils.getEntityHandle(data.getEntityDestination()), 0f);
+			return ParticleConstants.PARTICLE_PARAM_VIBRATION_CONSTRUCTOR.newInstance(source, data.getTicks());
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createShriekParam(int delay) {
+		try {
+			return ParticleConstants.PARTICLE_PARAM_SHRIEK_CONSTRUCTOR.newInstance(delay);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+
+	@Override
+	public Object createSculkChargeParam(float roll) {
+		try {
+			return ParticleConstants.PARTICLE_PARAM_SCULK_CHARGE_CONSTRUCTOR.newInstance(roll);
+		} catch (Exception ex) {
+			return ParticleFailures.fail(ex);
+		}
+	}
+}
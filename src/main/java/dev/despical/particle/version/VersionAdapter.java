@@ -0,0 +1,185 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.ParticleEffect;
+import dev.despical.particle.data.ParticleData;
+import dev.despical.particle.data.VibrationData;
+import dev.despical.particle.data.texture.BlockTexture;
+import dev.despical.particle.data.texture.ItemTexture;
+import org.bukkit.Material;
+
+/**
+ * Bundles every version dependent step that is needed to turn a particle into
+ * a PacketPlayOutWorldParticles packet.
+ * <p>
+ * Exactly one implementation is selected when the library is loaded (see
+ * {@link VersionAdapters#CURRENT}), so the code that builds packets no longer
+ * has to compare the server version for every single particle.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public interface VersionAdapter {
+
+	/**
+	 * Resolves the nms particle type of the given field name. Before 1.13 this is
+	 * a constant of the "EnumParticle" enum, since 1.13 it's the registered "Particle".
+	 *
+	 * @param fieldName the version specific name of the particle.
+	 * @return the nms particle type or {@code null} if it couldn't be found.
+	 */
+	Object getParticleType(String fieldName);
+
+	/**
+	 * Creates a new PacketPlayOutWorldParticles object with the given data.
+	 *
+	 * @param param     the nms particle type or ParticleParam of the packet.
+	 * @param locationX the x coordinate of the particle.
+	 * @param locationY the y coordinate of the particle.
+	 * @param locationZ the z coordinate of the particle.
+	 * @param offsetX   the offset x value of the packet.
+	 * @param offsetY   the offset y value of the packet.
+	 * @param offsetZ   the offset z value of the packet.
+	 * @param speed     the speed of the particle.
+	 * @param amount    the amount of particles.
+	 * @param data      extra data for the particle. Only used before 1.13.
+	 * @return a PacketPlayOutWorldParticles instance or {@code null} if an error occurs.
+	 */
+	Object createPacket(Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount, int[] data);
+
+	/**
+	 * Creates a new packet for particles that require the texture of a block or an item.
+	 *
+	 * @param effect    the {@link ParticleEffect} that should be displayed.
+	 * @param param     the result of {@link ParticleData#toNMSData()}.
+	 * @param locationX the x coordinate of the particle.
+	 * @param locationY the y coordinate of the particle.
+	 * @param locationZ the z coordinate of the particle.
+	 * @param offsetX   the offset x value of the packet.
+	 * @param offsetY   the offset y value of the packet.
+	 * @param offsetZ   the offset z value of the packet.
+	 * @param speed     the speed of the particle.
+	 * @param amount    the amount of particles.
+	 * @return a PacketPlayOutWorldParticles instance or {@code null} if an error occurs.
+	 */
+	Object createTexturedPacket(ParticleEffect effect, Object param, double locationX, double locationY, double locationZ, float offsetX, float offsetY, float offsetZ, float speed, int amount);
+
+	/**
+	 * Checks if the given {@link ParticleData} is sent as a standalone ParticleParam
+	 * in the current version.
+	 *
+	 * @param data   the {@link ParticleData} of the particle.
+	 * @param effect the {@link ParticleEffect} of the particle.
+	 * @return {@code true} if the nms data of the given {@link ParticleData} can be used as the packet param.
+	 */
+	boolean isParamData(ParticleData data, ParticleEffect effect);
+
+	/**
+	 * Checks if the color of the given {@link ParticleEffect} is encoded in the offset
+	 * values of the packet instead of a ParticleParam.
+	 *
+	 * @param effect the colorable {@link ParticleEffect}.
+	 * @return {@code true} if the offsets carry the color.
+	 */
+	boolean usesOffsetColor(ParticleEffect effect);
+
+	/**
+	 * Checks if {@link ParticleEffect#BARRIER} and {@link ParticleEffect#LIGHT} have
+	 * to be displayed through {@link ParticleEffect#BLOCK_MARKER}.
+	 *
+	 * @return {@code true} since 1.18.
+	 */
+	boolean usesBlockMarker();
+
+	/**
+	 * Creates the nms data of a dust particle.
+	 *
+	 * @param effect the dust {@link ParticleEffect}.
+	 * @param red    the red value of the color. <b>(Value range is 0f-1f)</b>
+	 * @param green  the green value of the color. <b>(Value range is 0f-1f)</b>
+	 * @param blue   the blue value of the color. <b>(Value range is 0f-1f)</b>
+	 * @param size   the size of the particle.
+	 * @return the nms data of the dust particle or {@code null} if it isn't supported.
+	 */
+	Object createDustParam(ParticleEffect effect, float red, float green, float blue, float size);
+
+	/**
+	 * Creates the nms data of a {@link ParticleEffect#DUST_COLOR_TRANSITION} particle.
+	 *
+	 * @param red       the red value of the start color.
+	 * @param green     the green value of the start color.
+	 * @param blue      the blue value of the start color.
+	 * @param fadeRed   the red value of the second color.
+	 * @param fadeGreen the green value of the second color.
+	 * @param fadeBlue  the blue value of the second color.
+	 * @param size      the size of the particle.
+	 * @return the DustColorTransitionOptions or {@code null} if it isn't supported.
+	 */
+	Object createDustTransitionParam(float red, float green, float blue, float fadeRed, float fadeGreen, float fadeBlue, float size);
+
+	/**
+	 * Creates the nms data of a {@link BlockTexture}.
+	 *
+	 * @param texture the {@link BlockTexture} that should be converted.
+	 * @return the nms data or {@code null} if an error occurs.
+	 */
+	Object createBlockParam(BlockTexture texture);
+
+	/**
+	 * Gets the nms block data of the given bukkit {@link Material}.
+	 *
+	 * @param material the {@link Material} whose data should be got.
+	 * @return the block data of the specified {@link Material} or {@code null} when an error occurs.
+	 */
+	Object getBlockData(Material material);
+
+	/**
+	 * Creates the nms data of an {@link ItemTexture}.
+	 *
+	 * @param texture the {@link ItemTexture} that should be converted.
+	 * @return the nms data or {@code null} if an error occurs.
+	 */
+	Object createItemParam(ItemTexture texture);
+
+	/**
+	 * Creates the VibrationParticleOption of the given {@link VibrationData}.
+	 *
+	 * @param data the {@link VibrationData} that should be converted.
+	 * @return the VibrationParticleOption or {@code null} if it isn't supported.
+	 */
+	Object createVibrationParam(VibrationData data);
+
+	/**
+	 * Creates the ShriekParticleOption with the given delay.
+	 *
+	 * @param delay the delay in ticks.
+	 * @return the ShriekParticleOption or {@code null} if it isn't supported.
+	 */
+	Object createShriekParam(int delay);
+
+	/**
+	 * Creates the SculkChargeParticleOptions with the given roll.
+	 *
+	 * @param roll the roll of the particle.
+	 * @return the SculkChargeParticleOptions or {@code null} if it isn't supported.
+	 */
+	Object createSculkChargeParam(float roll);
+}
@@ -0,0 +1,54 @@
+/*
+ * ParticleLib - A library for managing particles
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.particle.version;
+
+import dev.despical.particle.utils.ReflectionUtils;
+
+/**
+ * Holds the {@link VersionAdapter} of the running server.
+ *
+ * @author Despical
+ * <p>
+ * Created at 18.10.2026
+ */
+public final class VersionAdapters {
+
+	/**
+	 * The {@link VersionAdapter} matching {@link ReflectionUtils#MINECRAFT_VERSION}.
+	 */
+	public static final VersionAdapter CURRENT;
+
+	static {
+		double version = ReflectionUtils.MINECRAFT_VERSION;
+
+		if (version < 13)
+			CURRENT = new LegacyAdapter();
+		else if (version < 15)
+			CURRENT = new V1_13Adapter();
+		else if (version < 17)
+			CURRENT = new V1_15Adapter();
+		else if (version < 19)
+			CURRENT = new V1_17Adapter(version >= 18);
+		else
+			CURRENT = new V1_19Adapter();
+	}
+
+	private VersionAdapters() {
+	}
+}